@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.core;
+
+/**
+ * A workflow component whose invocation may be limited in time. When the
+ * timeout expires, the containing component interrupts the thread running the
+ * component and fails with a {@link WorkflowInterruptedException}. Components
+ * have to react to the interruption, e.g. by not swallowing
+ * {@link InterruptedException}s, to actually stop.
+ * 
+ * @since 1.7
+ */
+public interface WorkflowComponentWithTimeout extends WorkflowComponent {
+
+	/**
+	 * Sets the maximum time the invocation may take.
+	 * 
+	 * @param timeout
+	 *            the timeout in milliseconds, <code>0</code> for no limit
+	 */
+	public void setTimeout(long timeout);
+
+	/**
+	 * Returns the maximum time the invocation may take.
+	 * 
+	 * @return the timeout in milliseconds, <code>0</code> for no limit
+	 */
+	public long getTimeout();
+
+}
@@ -63,7 +63,14 @@ public class WorkflowFacade {
 		return run(slotContents, new NullProgressMonitor());
 	}
 	
+	/**
+	 * Runs the workflow with the given slot contents. The monitor is notified about each invoked component. If it is
+	 * canceled, no further components are invoked and a {@link WorkflowInterruptedException} is thrown.
+	 */
 	public Issues run(final Map<String, Object> slotContents, ProgressMonitor monitor) {
+		if (monitor == null) {
+			monitor = new NullProgressMonitor();
+		}
 		WorkflowContext ctx = new WorkflowContext() {
 			
 			@Override
@@ -82,7 +89,17 @@ public class WorkflowFacade {
 			}
 		};
 		
-		workflow.invoke(ctx, new NullProgressMonitor(), issues);
+		checkCanceled(monitor);
+		monitor.started(workflow, ctx);
+		workflow.invoke(ctx, monitor, issues);
+		// composite components stop silently when canceled
+		checkCanceled(monitor);
+		monitor.finished(workflow, ctx);
 		return issues;
 	}
+
+	private void checkCanceled(ProgressMonitor monitor) {
+		if (monitor.isCanceled())
+			throw new WorkflowInterruptedException("Workflow has been canceled.");
+	}
 }
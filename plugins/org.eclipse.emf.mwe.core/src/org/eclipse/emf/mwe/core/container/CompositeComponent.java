@@ -14,14 +14,24 @@ package org.eclipse.emf.mwe.core.container;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.eclipse.emf.mwe.core.ConfigurationException;
 import org.eclipse.emf.mwe.core.WorkflowComponent;
 import org.eclipse.emf.mwe.core.WorkflowComponentWithID;
+import org.eclipse.emf.mwe.core.WorkflowComponentWithTimeout;
 import org.eclipse.emf.mwe.core.WorkflowContext;
+import org.eclipse.emf.mwe.core.WorkflowInterruptedException;
 import org.eclipse.emf.mwe.core.ao.AbstractWorkflowAdvice;
 import org.eclipse.emf.mwe.core.config.FeatureComponent;
 import org.eclipse.emf.mwe.core.issues.Issues;
@@ -58,10 +68,19 @@ public class CompositeComponent implements WorkflowComponentWithID, IWorkflowCom
 	}
 
 	/** All components aggregated by this composite */
-	protected List<WorkflowComponent> components = new ArrayList<WorkflowComponent>();
+	protected List<WorkflowComponent> components = new ComponentList();
 
 	private String id;
 
+	/**
+	 * The components of the tree by ID, in the order they are found by a depth
+	 * first search. Only kept at the root, built once per configuration check
+	 * and again whenever a lookup finds it outdated.
+	 */
+	private Map<String, List<WorkflowComponent>> componentsByID;
+
+	private final Map<WorkflowComponent, String> printedComponents = new IdentityHashMap<WorkflowComponent, String>();
+
 	/**
 	 * Returns a list of aggregated components.
 	 * 
@@ -78,6 +97,9 @@ public class CompositeComponent implements WorkflowComponentWithID, IWorkflowCom
 
 	@Override
 	public void setId(final String id) {
+		if (this.id == null ? id != null : !this.id.equals(id)) {
+			invalidateComponentIndex();
+		}
 		this.id = id;
 	}
 
@@ -101,12 +123,13 @@ public class CompositeComponent implements WorkflowComponentWithID, IWorkflowCom
 			}
 			
 			if ((!(comp instanceof AbstractWorkflowAdvice))) {
-				comp.setContainer(this);
 				if (monitor != null) {
 					monitor.preTask(comp, model);
 				}
-				log.info(ComponentPrinter.getString(comp));
-				comp.invoke(model, monitor, issues);
+				if (log.isInfoEnabled()) {
+					log.info(getPrintedForm(comp));
+				}
+				invokeComponent(comp, model, monitor, issues);
 				if (monitor != null) {
 					monitor.postTask(comp, model);
 				}
@@ -114,8 +137,118 @@ public class CompositeComponent implements WorkflowComponentWithID, IWorkflowCom
 		}
 	}
 
+	/**
+	 * Returns the log message for the invocation of an aggregated component.
+	 * It is computed on the first invocation after the configuration has been
+	 * checked.
+	 * 
+	 * @since 1.7
+	 */
+	protected String getPrintedForm(final WorkflowComponent comp) {
+		String result = printedComponents.get(comp);
+		if (result == null) {
+			result = ComponentPrinter.getString(comp);
+			printedComponents.put(comp, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Invokes an aggregated component. If the component has a timeout, the
+	 * invoking thread is interrupted when it expires and a
+	 * {@link WorkflowInterruptedException} is thrown once the component
+	 * returns.
+	 * 
+	 * @since 1.7
+	 */
+	protected void invokeComponent(final WorkflowComponent comp, final WorkflowContext model,
+			final ProgressMonitor monitor, final Issues issues) {
+		final long timeout = comp instanceof WorkflowComponentWithTimeout ? ((WorkflowComponentWithTimeout) comp)
+				.getTimeout() : 0;
+		if (timeout <= 0) {
+			comp.invoke(model, monitor, issues);
+			return;
+		}
+		final Watchdog watchdog = new Watchdog(Thread.currentThread());
+		final ScheduledFuture<?> future = getWatchdogExecutor().schedule(watchdog, timeout, TimeUnit.MILLISECONDS);
+		RuntimeException failure = null;
+		try {
+			comp.invoke(model, monitor, issues);
+		}
+		catch (final RuntimeException e) {
+			failure = e;
+		}
+		finally {
+			future.cancel(false);
+		}
+		if (watchdog.finish()) {
+			// don't leave the interrupt to whatever runs next on this thread
+			Thread.interrupted();
+			final String location = comp.getLocation() != null ? " " + comp.getLocation() : "";
+			throw new WorkflowInterruptedException(ComponentPrinter.getString(comp) + location + " timed out after "
+					+ timeout + "ms", failure);
+		}
+		if (failure != null)
+			throw failure;
+	}
+
+	private static ScheduledExecutorService watchdogExecutor;
+
+	private static synchronized ScheduledExecutorService getWatchdogExecutor() {
+		if (watchdogExecutor == null) {
+			final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+				@Override
+				public Thread newThread(final Runnable r) {
+					final Thread thread = new Thread(r, "MWE component watchdog");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			executor.setRemoveOnCancelPolicy(true);
+			watchdogExecutor = executor;
+		}
+		return watchdogExecutor;
+	}
+
+	/**
+	 * Interrupts the worker unless it has finished before.
+	 */
+	private static class Watchdog implements Runnable {
+
+		private final Thread worker;
+
+		private boolean finished;
+
+		private boolean timedOut;
+
+		Watchdog(final Thread worker) {
+			this.worker = worker;
+		}
+
+		@Override
+		public synchronized void run() {
+			if (!finished) {
+				timedOut = true;
+				worker.interrupt();
+			}
+		}
+
+		/**
+		 * @return whether the worker has been interrupted
+		 */
+		synchronized boolean finish() {
+			finished = true;
+			return timedOut;
+		}
+	}
+
 	@Override
 	public void checkConfiguration(final Issues issues) throws ConfigurationException {
+		printedComponents.clear();
+		if (container == null) {
+			// the index lives as long as one run at most
+			componentsByID = null;
+		}
 		for (final WorkflowComponent comp : components) {
 			if (comp instanceof AbstractWorkflowAdvice) {
 				final AbstractWorkflowAdvice advice = (AbstractWorkflowAdvice) comp;
@@ -171,30 +304,89 @@ public class CompositeComponent implements WorkflowComponentWithID, IWorkflowCom
 	}
 
 	private Collection<WorkflowComponent> findComponentByID(final String adviceTargetID) {
-		final List<WorkflowComponent> hits = new ArrayList<WorkflowComponent>();
-		WorkflowComponent c = this;
-		while (c.getContainer() != null) {
-			c = c.getContainer();
+		final CompositeComponent root = getRoot();
+		List<WorkflowComponent> hits = null;
+		if (root.componentsByID != null) {
+			hits = root.componentsByID.get(adviceTargetID);
 		}
-		((CompositeComponent) c).resolveComponentByID(adviceTargetID, hits);
-		return hits;
+		if (!root.isCurrent(hits, adviceTargetID)) {
+			// the tree may have been changed by an advice
+			final Map<String, List<WorkflowComponent>> index = new HashMap<String, List<WorkflowComponent>>();
+			root.indexComponentsByID(index);
+			root.componentsByID = index;
+			hits = index.get(adviceTargetID);
+		}
+		return hits != null ? new ArrayList<WorkflowComponent>(hits) : new ArrayList<WorkflowComponent>();
+	}
+
+	/**
+	 * Returns whether the hits of an index lookup still have the ID and are
+	 * still part of this tree. A miss is never current, the component may
+	 * have been added later.
+	 */
+	private boolean isCurrent(final List<WorkflowComponent> hits, final String id) {
+		if (hits == null) {
+			return false;
+		}
+		for (final WorkflowComponent hit : hits) {
+			if (!id.equals(((WorkflowComponentWithID) hit).getId())) {
+				return false;
+			}
+			WorkflowComponent c = hit;
+			while (c != this) {
+				final CompositeComponent container = c.getContainer();
+				if (container == null || !container.components.contains(c)) {
+					return false;
+				}
+				c = container;
+			}
+		}
+		return true;
 	}
 
-	private void resolveComponentByID(final String adviceTargetID, final List<WorkflowComponent> hits) {
+	private void indexComponentsByID(final Map<String, List<WorkflowComponent>> index) {
 		for (final WorkflowComponent component : components) {
 			if (component instanceof WorkflowComponentWithID) {
-				if (adviceTargetID.equals(((WorkflowComponentWithID) component).getId())) {
+				final String componentID = ((WorkflowComponentWithID) component).getId();
+				if (componentID != null) {
+					List<WorkflowComponent> hits = index.get(componentID);
+					if (hits == null) {
+						hits = new ArrayList<WorkflowComponent>(1);
+						index.put(componentID, hits);
+					}
 					hits.add(component);
 				}
 			}
 		}
 		for (final WorkflowComponent component : components) {
 			if (component instanceof CompositeComponent) {
-				((CompositeComponent) component).resolveComponentByID(adviceTargetID, hits);
+				((CompositeComponent) component).indexComponentsByID(index);
 			}
 		}
 	}
 
+	private CompositeComponent getRoot() {
+		WorkflowComponent c = this;
+		while (c.getContainer() != null) {
+			c = c.getContainer();
+		}
+		return (CompositeComponent) c;
+	}
+
+	private void invalidateComponentIndex() {
+		getRoot().componentsByID = null;
+	}
+
+	/**
+	 * Tells the composite that the ID of one of its components has changed, so
+	 * that advices look up their targets again.
+	 * 
+	 * @since 1.7
+	 */
+	public void componentIdChanged(final WorkflowComponent component) {
+		invalidateComponentIndex();
+	}
+
 	/**
 	 * Returns the name of the component.
 	 * 
@@ -325,7 +517,11 @@ public class CompositeComponent implements WorkflowComponentWithID, IWorkflowCom
 	 */
 	@Override
 	public void setContainer(final CompositeComponent container) {
-		this.container = container;
+		if (this.container != container) {
+			invalidateComponentIndex();
+			this.container = container;
+			invalidateComponentIndex();
+		}
 	}
 
 	/**
@@ -368,4 +564,56 @@ public class CompositeComponent implements WorkflowComponentWithID, IWorkflowCom
 	public void postInvoke() {
 		getBridge().postInvoke();
 	}
+
+	/**
+	 * Sets the container of added components.
+	 */
+	private class ComponentList extends ArrayList<WorkflowComponent> {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public boolean add(final WorkflowComponent e) {
+			final boolean result = super.add(e);
+			adopt(e);
+			return result;
+		}
+
+		@Override
+		public void add(final int index, final WorkflowComponent element) {
+			super.add(index, element);
+			adopt(element);
+		}
+
+		@Override
+		public boolean addAll(final Collection<? extends WorkflowComponent> c) {
+			final boolean result = super.addAll(c);
+			for (final WorkflowComponent e : c) {
+				adopt(e);
+			}
+			return result;
+		}
+
+		@Override
+		public boolean addAll(final int index, final Collection<? extends WorkflowComponent> c) {
+			final boolean result = super.addAll(index, c);
+			for (final WorkflowComponent e : c) {
+				adopt(e);
+			}
+			return result;
+		}
+
+		@Override
+		public WorkflowComponent set(final int index, final WorkflowComponent element) {
+			final WorkflowComponent result = super.set(index, element);
+			adopt(element);
+			return result;
+		}
+
+		private void adopt(final WorkflowComponent component) {
+			if (component != null) {
+				component.setContainer(CompositeComponent.this);
+			}
+		}
+	}
 }
@@ -19,7 +19,6 @@ import org.eclipse.emf.mwe.core.WorkflowContext;
 import org.eclipse.emf.mwe.core.WorkflowInterruptedException;
 import org.eclipse.emf.mwe.core.issues.Issues;
 import org.eclipse.emf.mwe.core.monitor.ProgressMonitor;
-import org.eclipse.emf.mwe.internal.core.util.ComponentPrinter;
 
 public abstract class ConditionalComponent extends CompositeComponent implements WorkflowConditional {
 
@@ -45,9 +44,14 @@ public abstract class ConditionalComponent extends CompositeComponent implements
 		try {
 			if (evaluate()) {
 				for (final Iterator<WorkflowComponent> iter = components.iterator(); iter.hasNext();) {
+					if ((monitor != null) && monitor.isCanceled()) {
+						return;
+					}
 					final WorkflowComponent comp = iter.next();
 					try {
-						log.info(ComponentPrinter.getString(comp));
+						if (log.isInfoEnabled()) {
+							log.info(getPrintedForm(comp));
+						}
 					}
 					catch (final WorkflowInterruptedException wfi) {
 						throw wfi;
@@ -56,11 +60,14 @@ public abstract class ConditionalComponent extends CompositeComponent implements
 						issues.addError(comp, "Error during execution: " + t.getMessage());
 						log.error("Exception occured: ", t);
 					}
-					comp.invoke(model, monitor, issues);
+					invokeComponent(comp, model, monitor, issues);
 				}
 			}
 			else if (elseComp != null) {
-				elseComp.invoke(model, monitor, issues);
+				if ((monitor != null) && monitor.isCanceled()) {
+					return;
+				}
+				invokeComponent(elseComp, model, monitor, issues);
 			}
 		}
 		catch (ConditionEvaluationException ex) {
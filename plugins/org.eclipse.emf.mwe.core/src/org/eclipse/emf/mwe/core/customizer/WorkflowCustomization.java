@@ -11,33 +11,139 @@
  *******************************************************************************/
 package org.eclipse.emf.mwe.core.customizer;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.eclipse.emf.mwe.core.lib.ThreadScope;
 
+/**
+ * Maps keywords used as element names in workflow files to component classes.
+ * <p>
+ * The mappings are global by default. Workflows that are parsed in parallel in
+ * the same JVM and need different keywords can each be parsed within a
+ * {@link Scope}. While a scope is open, mappings registered by the thread that
+ * opened it, e.g. by a <code>StandardComponentMappingHelper</code> bean, are
+ * only visible to this thread and are dropped when the scope is closed:
+ * 
+ * <pre>
+ * WorkflowCustomization.Scope scope = WorkflowCustomization.open();
+ * try {
+ * 	runner.prepare(workflowFile, monitor, params);
+ * } finally {
+ * 	scope.close();
+ * }
+ * </pre>
+ */
 public class WorkflowCustomization {
 
-	private static Map<String,Class<?>> keywordmapping = new HashMap<String,Class<?>>();
+	private static final Map<String,Class<?>> keywordmapping = new ConcurrentHashMap<String,Class<?>>();
+
+	private static final ThreadLocal<Scope> currentScope = new ThreadLocal<Scope>();
+
+	// marks a keyword that has been unregistered within a scope
+	private static final Class<?> UNMAPPED = Void.class;
 
 	private static final Log logger = LogFactory.getLog(WorkflowCustomization.class);
 
+	/**
+	 * Registers a mapping in the innermost scope opened by the current thread,
+	 * or globally if there is none.
+	 */
 	public static void registerKeywordMapping( String keyword, Class<?> componentClass ) {
-		keywordmapping .put( keyword, componentClass );
+		Scope scope = currentScope.get();
+		if (scope != null)
+			scope.registerKeywordMapping( keyword, componentClass );
+		else if (componentClass == null)
+			keywordmapping.remove( keyword );
+		else
+			keywordmapping.put( keyword, componentClass );
 	}
 
 	public static void registerKeywordMapping( String keyword, String componentClassName ) {
+		Class<?> componentClass = resolve(componentClassName);
+		if (componentClass != null)
+			registerKeywordMapping( keyword, componentClass );
+	}
+
+	/**
+	 * Removes a mapping from the innermost scope opened by the current thread,
+	 * where it also hides the mappings of enclosing scopes and the global ones
+	 * until the scope is closed, or globally if there is none.
+	 * 
+	 * @since 1.7
+	 */
+	public static void unregisterKeywordMapping( String keyword ) {
+		Scope scope = currentScope.get();
+		if (scope != null)
+			scope.unregisterKeywordMapping( keyword );
+		else
+			keywordmapping.remove( keyword );
+	}
+
+	public static Class<?> getKeywordMapping( String keyword ) {
+		for (Scope scope = currentScope.get(); scope != null; scope = scope.getParent()) {
+			Class<?> result = scope.keywordmapping.get(keyword);
+			if (result != null)
+				return result != UNMAPPED ? result : null;
+		}
+		return keywordmapping.get(keyword);
+	}
+
+	/**
+	 * Opens a scope for the current thread. Until it is closed, mappings
+	 * registered by this thread are kept in the scope and take precedence over
+	 * those of enclosing scopes and the global ones.
+	 * 
+	 * @since 1.7
+	 */
+	public static Scope open() {
+		return new Scope();
+	}
+
+	private static Class<?> resolve( String componentClassName ) {
 		try {
-			keywordmapping .put( keyword, Class.forName(componentClassName) );
+			return Class.forName(componentClassName);
 		} catch (ClassNotFoundException e) {
 			logger.warn("Cannot resolve keyword class "+componentClassName);
+			return null;
 		}
 	}
 
-	public static Class<?> getKeywordMapping( String keyword ) {
-		return keywordmapping.get(keyword);
+	/**
+	 * @since 1.7
+	 */
+	public static class Scope extends ThreadScope<Scope> {
+
+		private final Map<String,Class<?>> keywordmapping = new ConcurrentHashMap<String,Class<?>>();
+
+		private Scope() {
+			super(currentScope);
+		}
+
+		public void registerKeywordMapping( String keyword, Class<?> componentClass ) {
+			keywordmapping.put( keyword, componentClass != null ? componentClass : UNMAPPED );
+		}
+
+		public void registerKeywordMapping( String keyword, String componentClassName ) {
+			Class<?> componentClass = resolve(componentClassName);
+			if (componentClass != null)
+				registerKeywordMapping( keyword, componentClass );
+		}
+
+		/**
+		 * Removes the mapping within this scope, which also hides the mappings of
+		 * enclosing scopes and the global ones for the keyword.
+		 */
+		public void unregisterKeywordMapping( String keyword ) {
+			keywordmapping.put( keyword, UNMAPPED );
+		}
+
+		@Override
+		protected void onClose() {
+			keywordmapping.clear();
+		}
 	}
 
-	
 }
@@ -14,6 +14,7 @@ package org.eclipse.emf.mwe.core.lib;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.eclipse.emf.mwe.core.WorkflowComponentWithID;
+import org.eclipse.emf.mwe.core.WorkflowComponentWithTimeout;
 import org.eclipse.emf.mwe.core.WorkflowContext;
 import org.eclipse.emf.mwe.core.container.CompositeComponent;
 import org.eclipse.emf.mwe.core.issues.Issues;
@@ -26,7 +27,7 @@ import org.eclipse.emf.mwe2.runtime.workflow.IWorkflowContext;
  * Base class useful for implementing custom WorkflowComponents.
  * 
  */
-public abstract class AbstractWorkflowComponent implements WorkflowComponentWithID, IWorkflowComponent {
+public abstract class AbstractWorkflowComponent implements WorkflowComponentWithID, WorkflowComponentWithTimeout, IWorkflowComponent {
 
 	private static final Log log = LogFactory.getLog(AbstractWorkflowComponent.class);
 
@@ -35,6 +36,8 @@ public abstract class AbstractWorkflowComponent implements WorkflowComponentWith
 
 	private boolean skipOnErrors = false;
 
+	private long timeout = 0;
+
 	/** Container component */
 	private CompositeComponent container;
 
@@ -152,7 +155,11 @@ public abstract class AbstractWorkflowComponent implements WorkflowComponentWith
 	 */
 	@Override
 	public void setId(final String id) {
+		final boolean changed = componentID == null ? id != null : !componentID.equals(id);
 		componentID = id;
+		if (changed && container != null) {
+			container.componentIdChanged(this);
+		}
 	}
 
 	/**
@@ -176,6 +183,24 @@ public abstract class AbstractWorkflowComponent implements WorkflowComponentWith
 		this.skipOnErrors = skipOnErrors;
 	}
 
+	/**
+	 * @see org.eclipse.emf.mwe.core.WorkflowComponentWithTimeout#setTimeout(long)
+	 * @since 1.7
+	 */
+	@Override
+	public void setTimeout(final long timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * @see org.eclipse.emf.mwe.core.WorkflowComponentWithTimeout#getTimeout()
+	 * @since 1.7
+	 */
+	@Override
+	public long getTimeout() {
+		return timeout;
+	}
+
 	/**
 	 * Internal method for component execution.
 	 * 
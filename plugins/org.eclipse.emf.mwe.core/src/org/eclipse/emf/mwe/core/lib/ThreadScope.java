@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.core.lib;
+
+/**
+ * A scope that a thread opens around some work, e.g. a workflow run, and closes
+ * afterwards. Scopes of the same kind may be nested; the innermost open scope of
+ * each thread is kept in a thread local shared by all scopes of that kind.
+ *
+ * @param <S>
+ *            the kind of scope
+ * @since 1.7
+ */
+public abstract class ThreadScope<S extends ThreadScope<S>> {
+
+	private final ThreadLocal<S> current;
+
+	private final S parent;
+
+	private final Thread thread = Thread.currentThread();
+
+	private boolean closed;
+
+	/**
+	 * Opens the scope in the current thread within the innermost open scope of
+	 * the same kind, if any.
+	 *
+	 * @param current
+	 *            the thread local holding the innermost open scope of this kind
+	 */
+	@SuppressWarnings("unchecked")
+	protected ThreadScope(final ThreadLocal<S> current) {
+		this.current = current;
+		this.parent = current.get();
+		current.set((S) this);
+	}
+
+	/**
+	 * @return the scope this one has been opened in, or <code>null</code>.
+	 */
+	public S getParent() {
+		return parent;
+	}
+
+	/**
+	 * Closes this scope, which must be done by the thread that opened it.
+	 * Scopes opened within this one are closed as well.
+	 */
+	public void close() {
+		if (Thread.currentThread() != thread) {
+			throw new IllegalStateException("A scope must be closed by the thread that opened it.");
+		}
+		if (closed)
+			return;
+		for (ThreadScope<S> scope = current.get(); scope != null && scope != parent; scope = scope.parent) {
+			scope.closed = true;
+			scope.onClose();
+		}
+		if (parent == null) {
+			current.remove();
+		} else {
+			current.set(parent);
+		}
+	}
+
+	/**
+	 * Called when the scope is closed, e.g. to drop what has been registered in
+	 * it.
+	 */
+	protected void onClose() {
+	}
+
+}
@@ -11,7 +11,12 @@ package org.eclipse.emf.mwe.core.resources;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.eclipse.emf.mwe.internal.core.MWEPlugin;
 
@@ -22,6 +27,56 @@ public abstract class AbstractResourceLoader implements ResourceLoader {
 
 	protected abstract Class<?> tryLoadClass(final String clazzName) throws ClassNotFoundException;
 
+	private int cacheSize;
+
+	/**
+	 * The caches by context class loader of the calling thread, which some of the
+	 * lookup strategies depend on.
+	 */
+	private Map<ClassLoader, LookupCache<URL>> resourceCaches;
+
+	/**
+	 * Classes are only weakly referenced, a class loaded through the context class
+	 * loader would otherwise keep its key from being collected.
+	 */
+	private Map<ClassLoader, LookupCache<Reference<Class<?>>>> classCaches;
+
+	private static final Reference<Class<?>> NOT_FOUND = new WeakReference<Class<?>>(null);
+
+	/**
+	 * Enables caching of the results of {@link #getResource(String)} and {@link #loadClass(String)}, including
+	 * unsuccessful lookups, which otherwise run through all strategies again on every call. Lookups are cached
+	 * separately for each context class loader of the calling thread, resources also by the base URL of the MWE
+	 * plug-in. At most <code>cacheSize</code> resources and classes are kept per context class loader; the least
+	 * recently used entries are dropped first. A size of <code>0</code> (the default) disables caching.
+	 * 
+	 * @since 1.7
+	 */
+	public synchronized void setCacheSize(int cacheSize) {
+		if (cacheSize < 0)
+			throw new IllegalArgumentException("Negative cache size: " + cacheSize);
+		this.cacheSize = cacheSize;
+		if (cacheSize == 0) {
+			resourceCaches = null;
+			classCaches = null;
+		} else {
+			resourceCaches = new WeakHashMap<ClassLoader, LookupCache<URL>>();
+			classCaches = new WeakHashMap<ClassLoader, LookupCache<Reference<Class<?>>>>();
+		}
+	}
+
+	/**
+	 * Forgets all cached lookups, e.g. after resources or classes have been added to the class path.
+	 * 
+	 * @since 1.7
+	 */
+	public synchronized void invalidate() {
+		if (resourceCaches != null) {
+			resourceCaches.clear();
+			classCaches.clear();
+		}
+	}
+
 	@Override
 	public InputStream getResourceAsStream(String path) {
 		URL resource = getResource(path);
@@ -36,6 +91,24 @@ public abstract class AbstractResourceLoader implements ResourceLoader {
 
 	@Override
 	public Class<?> loadClass(final String clazzName) {
+		LookupCache<Reference<Class<?>>> cache = getClassCache();
+		if (cache == null)
+			return doLoadClass(clazzName);
+		synchronized (cache) {
+			Reference<Class<?>> cached = cache.get(clazzName);
+			if (cached == NOT_FOUND)
+				return null;
+			if (cached != null && cached.get() != null)
+				return cached.get();
+		}
+		Class<?> result = doLoadClass(clazzName);
+		synchronized (cache) {
+			cache.put(clazzName, result != null ? new WeakReference<Class<?>>(result) : NOT_FOUND);
+		}
+		return result;
+	}
+
+	private Class<?> doLoadClass(final String clazzName) {
 		try {
 			return tryLoadClass(clazzName);
 		} catch (Exception e1) {
@@ -58,6 +131,22 @@ public abstract class AbstractResourceLoader implements ResourceLoader {
 
 	@Override
 	public URL getResource(String path) {
+		LookupCache<URL> cache = getResourceCache();
+		if (cache == null)
+			return doGetResource(path);
+		String key = getBaseURL() + "\n" + path;
+		synchronized (cache) {
+			if (cache.containsKey(key))
+				return cache.get(key);
+		}
+		URL result = doGetResource(path);
+		synchronized (cache) {
+			cache.put(key, result);
+		}
+		return result;
+	}
+
+	private URL doGetResource(String path) {
 		URL url = loadDirectly(path);
 		if (url == null) {
 			url = loadFromBaseURL(path);
@@ -71,7 +160,7 @@ public abstract class AbstractResourceLoader implements ResourceLoader {
 		return url;
 	}
 
-	private URL loadFromFile(String path) {
+	protected URL loadFromFile(String path) {
 		try {
 			File f = new File(path);
 			if (f.exists())
@@ -81,7 +170,7 @@ public abstract class AbstractResourceLoader implements ResourceLoader {
 		return null;
 	}
 
-	private URL loadFromBaseURL(String path) {
+	protected URL loadFromBaseURL(String path) {
 		try {
 			URL url = new URL(MWEPlugin.INSTANCE.getBaseURL() + path);
 			if (url.getContent() != null) {
@@ -92,7 +181,7 @@ public abstract class AbstractResourceLoader implements ResourceLoader {
 		return null;
 	}
 
-	private URL loadDirectly(String path) {
+	protected URL loadDirectly(String path) {
 		try {
 			URL url = new URL(path);
 			if (url.getContent() != null) {
@@ -107,4 +196,56 @@ public abstract class AbstractResourceLoader implements ResourceLoader {
 		return Thread.currentThread().getContextClassLoader().getResource(path);
 	}
 
+	private static URL getBaseURL() {
+		try {
+			return MWEPlugin.INSTANCE.getBaseURL();
+		} catch (RuntimeException e) {
+			// not available, neither to loadFromBaseURL
+			return null;
+		}
+	}
+
+	private synchronized LookupCache<URL> getResourceCache() {
+		if (resourceCaches == null)
+			return null;
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		LookupCache<URL> result = resourceCaches.get(contextClassLoader);
+		if (result == null) {
+			result = new LookupCache<URL>(cacheSize);
+			resourceCaches.put(contextClassLoader, result);
+		}
+		return result;
+	}
+
+	private synchronized LookupCache<Reference<Class<?>>> getClassCache() {
+		if (classCaches == null)
+			return null;
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		LookupCache<Reference<Class<?>>> result = classCaches.get(contextClassLoader);
+		if (result == null) {
+			result = new LookupCache<Reference<Class<?>>>(cacheSize);
+			classCaches.put(contextClassLoader, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Bounded map in access order. A <code>null</code> value records a failed lookup.
+	 */
+	private static class LookupCache<V> extends LinkedHashMap<String, V> {
+		private static final long serialVersionUID = 1L;
+
+		private final int maxSize;
+
+		LookupCache(int maxSize) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+			return size() > maxSize;
+		}
+	}
+
 }
@@ -11,18 +11,23 @@
  *******************************************************************************/
 package org.eclipse.emf.mwe.internal.core.ast;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.eclipse.emf.mwe.core.resources.ResourceLoader;
 import org.eclipse.emf.mwe.internal.core.ast.parser.Location;
+import org.eclipse.emf.mwe.internal.core.ast.parser.WorkflowFragmentCache;
 import org.eclipse.emf.mwe.internal.core.ast.parser.WorkflowParser;
 
 public class DeclaredPropertyFileAST extends AbstractASTBase {
@@ -44,63 +49,120 @@ public class DeclaredPropertyFileAST extends AbstractASTBase {
 		return "<" + WorkflowParser.PROPERTY + " file='" + file + "'/>";
 	}
 
-	private Properties properties = null;
+	private static final int MAX_CACHED_FILES = 256;
 
+	/**
+	 * Parsed property files by resolved URL, shared by all ASTs reading the same file, e.g. from several
+	 * inclusions of a workflow. An entry is reused as long as the modification time of the file is unchanged.
+	 */
+	private static final Map<String, PropertyFile> cache = new LinkedHashMap<String, PropertyFile>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<String, PropertyFile> eldest) {
+			return size() > MAX_CACHED_FILES;
+		}
+	};
+
+	private OrderedProperties properties = null;
+
+	/**
+	 * Returns the properties of the file or <code>null</code> if it cannot be found. The result may be shared with
+	 * other ASTs referring to the same file and must not be modified.
+	 */
 	public Properties getProperties(final ResourceLoader loader) {
 		if (properties == null) {
-			final InputStream in = loader.getResourceAsStream(getFile());
-			if (in == null)
-				return null;
-			try {
-				properties = new Properties();
-				properties.load(in);
-				loadPropertyNames(loader.getResourceAsStream(getFile()));
-
-			}
-			catch (final IOException e) {
-				log.error(e.getMessage(), e);
-			}
-			finally {
-				try {
-					in.close();
-				}
-				catch (final IOException e) {
-					log.error(e.getMessage(), e);
-				}
-			}
+			properties = load(loader);
 		}
 		return properties;
 	}
 
-	private List<String> propertyNames = null;
-
 	public List<String> getPropertyNames(final ResourceLoader loader) {
-		getProperties(loader);
-		return propertyNames;
+		final OrderedProperties result = (OrderedProperties) getProperties(loader);
+		return result != null ? result.getNames() : null;
 	}
 
 	public void setFile(final String string) {
 		file = string;
 	}
 
-	private synchronized void loadPropertyNames(final InputStream inStream) throws IOException {
-		propertyNames = new ArrayList<String>();
-		final BufferedReader in = new BufferedReader(new InputStreamReader(inStream, "8859_1"));
-		while (true) {
-			final String line = in.readLine();
-			if (line == null)
-				return;
-
-			if (line.length() > 0) {
-				final int sep = line.indexOf('=');
-				if (sep != -1) {
-					final String key = line.substring(0, sep).trim();
-					if (key.length() > 0 && key.indexOf(' ') == -1 && key.indexOf('#') == -1 && key.indexOf('!') == -1) {
-						propertyNames.add(key);
-					}
-				}
+	private OrderedProperties load(final ResourceLoader loader) {
+		final URL url = loader.getResource(getFile());
+		if (url == null) {
+			// loaders are not required to implement getResource
+			return read(loader.getResourceAsStream(getFile()));
+		}
+		final String key = url.toExternalForm();
+		final long lastModified = WorkflowFragmentCache.getLastModified(url);
+		synchronized (cache) {
+			final PropertyFile cached = cache.get(key);
+			if (cached != null && lastModified > 0 && cached.lastModified == lastModified)
+				return cached.properties;
+		}
+		OrderedProperties result;
+		try {
+			result = read(url.openStream());
+		}
+		catch (final IOException e) {
+			log.error(e.getMessage(), e);
+			return null;
+		}
+		if (result != null && lastModified > 0) {
+			synchronized (cache) {
+				cache.put(key, new PropertyFile(lastModified, result));
 			}
 		}
+		return result;
+	}
+
+	private OrderedProperties read(final InputStream in) {
+		if (in == null)
+			return null;
+		final OrderedProperties result = new OrderedProperties();
+		try {
+			result.load(in);
+		}
+		catch (final IOException e) {
+			log.error(e.getMessage(), e);
+		}
+		finally {
+			try {
+				in.close();
+			}
+			catch (final IOException e) {
+				log.error(e.getMessage(), e);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Properties remembering the order in which the keys appear in the file.
+	 */
+	private static class OrderedProperties extends Properties {
+		private static final long serialVersionUID = 1L;
+
+		private final Set<String> names = new LinkedHashSet<String>();
+
+		@Override
+		public synchronized Object put(final Object key, final Object value) {
+			names.add((String) key);
+			return super.put(key, value);
+		}
+
+		List<String> getNames() {
+			return Collections.unmodifiableList(new ArrayList<String>(names));
+		}
+	}
+
+	private static class PropertyFile {
+		final long lastModified;
+		final OrderedProperties properties;
+
+		PropertyFile(final long lastModified, final OrderedProperties properties) {
+			this.lastModified = lastModified;
+			this.properties = properties;
+		}
 	}
 
 }
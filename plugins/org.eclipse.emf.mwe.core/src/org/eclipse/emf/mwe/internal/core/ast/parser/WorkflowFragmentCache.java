@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.internal.core.ast.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.emf.mwe.core.issues.Issues;
+import org.eclipse.emf.mwe.core.issues.IssuesImpl;
+import org.eclipse.emf.mwe.core.issues.MWEDiagnostic;
+import org.eclipse.emf.mwe.internal.core.ast.AbstractASTBase;
+import org.eclipse.emf.mwe.internal.core.ast.util.VisitorCopier;
+
+/**
+ * Keeps the parsed ASTs of included workflow fragments, so that a fragment that is
+ * included several times is parsed only once. Entries are keyed by the resolved URL
+ * and its last modification time. The cached ASTs are never handed out directly,
+ * each call returns a fresh copy that may be initialized by the caller.
+ * <p>
+ * Fragments that caused any issues while being parsed are not cached, so the
+ * issues are reported for every inclusion.
+ */
+public class WorkflowFragmentCache {
+	private static final int DEFAULT_MAX_ENTRIES = 256;
+
+	private static final WorkflowFragmentCache INSTANCE = new WorkflowFragmentCache(DEFAULT_MAX_ENTRIES);
+
+	public static WorkflowFragmentCache getInstance() {
+		return INSTANCE;
+	}
+
+	private final Map<String, Entry> entries;
+
+	public WorkflowFragmentCache(final int maxEntries) {
+		entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Returns a copy of the fragment at the given URL or <code>null</code> if it could
+	 * not be parsed. In the latter case the problems are reported to <code>issues</code>.
+	 * 
+	 * @throws IOException if the fragment cannot be read
+	 */
+	public AbstractASTBase parse(final URL url, final String resourceName, final Issues issues) throws IOException {
+		final String key = url.toExternalForm() + '|' + resourceName;
+		final long lastModified = getLastModified(url);
+		final Entry entry;
+		synchronized (entries) {
+			entry = entries.get(key);
+		}
+		if (entry != null && entry.lastModified == lastModified) {
+			return copy(entry.ast);
+		}
+		final InputStream in = url.openStream();
+		final Issues parseIssues = new IssuesImpl();
+		final AbstractASTBase result;
+		try {
+			result = new WorkflowParser().parse(in, resourceName, parseIssues);
+		}
+		finally {
+			in.close();
+		}
+		for (final MWEDiagnostic issue : parseIssues.getIssues()) {
+			issues.add(issue);
+		}
+		if (result == null) {
+			return null;
+		}
+		if (parseIssues.getIssues().length == 0) {
+			synchronized (entries) {
+				entries.put(key, new Entry(lastModified, copy(result)));
+			}
+		}
+		return result;
+	}
+
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	private AbstractASTBase copy(final AbstractASTBase ast) {
+		return (AbstractASTBase) ast.accept(new VisitorCopier());
+	}
+
+	/**
+	 * Returns the last modification time of the resource at the given URL without
+	 * keeping it open, or a value <code>&lt;= 0</code> if it is unknown.
+	 */
+	public static long getLastModified(final URL url) {
+		if ("file".equals(url.getProtocol())) {
+			try {
+				return new File(url.toURI()).lastModified();
+			}
+			catch (final URISyntaxException e) {
+				// fall through
+			}
+			catch (final IllegalArgumentException e) {
+				// fall through
+			}
+		}
+		try {
+			final URLConnection connection = url.openConnection();
+			final long result = connection.getLastModified();
+			connection.getInputStream().close();
+			return result;
+		}
+		catch (final IOException e) {
+			return -1;
+		}
+	}
+
+	private static class Entry {
+		private final long lastModified;
+
+		private final AbstractASTBase ast;
+
+		Entry(final long lastModified, final AbstractASTBase ast) {
+			this.lastModified = lastModified;
+			this.ast = ast;
+		}
+	}
+}
@@ -11,12 +11,15 @@
  *******************************************************************************/
 package org.eclipse.emf.mwe.internal.core.ast.parser;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.Stack;
 
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 
@@ -32,6 +35,7 @@ import org.eclipse.emf.mwe.internal.core.ast.ReferenceAST;
 import org.eclipse.emf.mwe.internal.core.ast.SimpleParamAST;
 import org.xml.sax.Attributes;
 import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
 public class WorkflowParser extends DefaultHandler {
@@ -65,26 +69,76 @@ public class WorkflowParser extends DefaultHandler {
 
 	private Issues issues = null;
 
+	private XmlLocationAnalyser locationAnalyser = null;
+
+	/**
+	 * SAX parsers are expensive to create but not thread-safe, thus each thread keeps
+	 * one for reuse. A parser is removed while it is in use, so nested parse calls get
+	 * a new one.
+	 */
+	private static final ThreadLocal<SAXParser> parsers = new ThreadLocal<SAXParser>();
+
 	public WorkflowParser() {
 	}
 
+	/**
+	 * If set, the given analyser evaluates the content of the parsed resource on the
+	 * fly, so that it does not have to read it again for adapting locations.
+	 */
+	public void setLocationAnalyser(final XmlLocationAnalyser locationAnalyser) {
+		this.locationAnalyser = locationAnalyser;
+	}
+
 	public AbstractASTBase parse(final InputStream in, final String resourceName, final Issues issues) {
 		resource = resourceName;
 		this.issues = issues;
 
+		SAXParser parser = null;
 		try {
-			final SAXParser parser = SAXParserFactory.newInstance().newSAXParser();
-			parser.parse(in, this);
+			parser = acquireParser();
+			InputStream input = in;
+			if (!(input instanceof BufferedInputStream || input instanceof ByteArrayInputStream)) {
+				input = new BufferedInputStream(input);
+			}
+			if (locationAnalyser != null) {
+				input = locationAnalyser.record(resourceName, input);
+			}
+			parser.parse(input, this);
 		}
 		catch (final Exception e) {
 			root = null;
 			log.error(e.getMessage(), e);
 			issues.addError(e.getMessage(), resourceName);
 		}
+		finally {
+			releaseParser(parser);
+		}
 
 		return root;
 	}
 
+	private static SAXParser acquireParser() throws ParserConfigurationException, SAXException {
+		final SAXParser parser = parsers.get();
+		if (parser != null) {
+			parsers.remove();
+			return parser;
+		}
+		return SAXParserFactory.newInstance().newSAXParser();
+	}
+
+	private static void releaseParser(final SAXParser parser) {
+		if (parser == null) {
+			return;
+		}
+		try {
+			parser.reset();
+			parsers.set(parser);
+		}
+		catch (final UnsupportedOperationException e) {
+			// parser cannot be reused
+		}
+	}
+
 	@Override
 	public void setDocumentLocator(final Locator locator) {
 		this.locator = locator;
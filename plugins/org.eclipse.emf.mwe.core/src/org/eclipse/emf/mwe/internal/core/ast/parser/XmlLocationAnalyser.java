@@ -11,6 +11,7 @@
  *******************************************************************************/
 package org.eclipse.emf.mwe.internal.core.ast.parser;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
@@ -34,33 +35,95 @@ public class XmlLocationAnalyser {
 	 */
 	public Location adapt(Location loc) {
 		String resource = loc.getResource();
-		XmlFileEvaluator evaluator = evaluateResource(resource);
+		XmlFileEvaluator evaluator = getEvaluator(resource);
 		return evaluator.adapt(loc);
 	}
 
 	public Location adaptEnd(Location loc) {
 		String resource = loc.getResource();
-		XmlFileEvaluator evaluator = evaluateResource(resource);
+		XmlFileEvaluator evaluator = getEvaluator(resource);
 		return evaluator.adaptEnd(loc);
 	}
 
 	public int findFirstLineOfTag(String resource, int lineNumber) {
-		if (!repository.containsKey(resource)) {
-			evaluateResource(resource);
-		}
-		return repository.get(resource).findFirstLineOfTag(lineNumber);
+		return getEvaluator(resource).findFirstLineOfTag(lineNumber);
+	}
+
+	/**
+	 * Returns a stream that evaluates the content of the given resource while it is
+	 * read by someone else, e.g. the {@link WorkflowParser}. Thus the resource does not
+	 * need to be read a second time for location adaption.
+	 * 
+	 * @param resource the name of the resource as used in the locations
+	 * @param in the content of the resource
+	 */
+	public InputStream record(String resource, InputStream in) {
+		final XmlFileEvaluator evaluator = newEvaluator();
+		evaluator.begin();
+		repository.put(resource, evaluator);
+		return new FilterInputStream(in) {
+			@Override
+			public int read() throws IOException {
+				int c = super.read();
+				if (c != -1)
+					evaluator.update(c);
+				return c;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				int count = super.read(b, off, len);
+				if (count > 0)
+					evaluator.update(b, off, count);
+				return count;
+			}
+
+			@Override
+			public long skip(long n) throws IOException {
+				long count = 0;
+				while (count < n && read() != -1)
+					count++;
+				return count;
+			}
+
+			@Override
+			public boolean markSupported() {
+				return false;
+			}
+		};
+	}
+
+	private XmlFileEvaluator getEvaluator(String resource) {
+		XmlFileEvaluator evaluator = repository.get(resource);
+		if (evaluator == null)
+			evaluator = evaluateResource(resource);
+		return evaluator;
 	}
 
 	private XmlFileEvaluator evaluateResource(String resource) {
 		if (loader == null)
 			loader = ResourceLoaderFactory.createResourceLoader();
 		InputStream is = loader.getResourceAsStream(resource);
-		XmlFileEvaluator evaluator = new XmlFileEvaluator();
-		evaluator.evaluate(is);
+		XmlFileEvaluator evaluator = newEvaluator();
+		try {
+			evaluator.evaluate(is);
+		} finally {
+			close(is);
+		}
 		repository.put(resource, evaluator);
 		return evaluator;
 	}
 
+	private void close(InputStream is) {
+		if (is == null)
+			return;
+		try {
+			is.close();
+		} catch (IOException e) {
+			//
+		}
+	}
+
 	protected XmlFileEvaluator newEvaluator() {
 		return new XmlFileEvaluator();
 	}
@@ -83,134 +146,171 @@ public class XmlLocationAnalyser {
 
 		protected boolean inTag, isClosingTag, inName, inInstruction, inComment = false;
 
+		private int offset, column, nameStart, nameEnd, line, tagLine, firstColumn;
+
 		public void evaluate(final InputStream is) {
 			if (is == null)
 				return;
-			int c;
-			result = new ArrayList<Object[]>();
-			int offset = 0, column = 0, nameStart = 0, nameEnd = 0, line = 0, tagLine = 0, firstColumn = 0;
-			reset();
+			begin();
+			final byte[] buffer = new byte[8192];
 			try {
-				while ((c = is.read()) != -1) {
-					switch (c) {
-					case '<':
-						if (!(inTag || inInstruction || inComment)) {
-							inTag = true;
-							tagLine = line;
-						} else {
-							consume(c);
-						}
-						break;
-					case '>':
-						if (inTag) {
-							if (nameEnd == 0)
-								nameEnd = offset - specChar.length();
-							if (line != tagLine)
-								firstColumn = 0;
-							XmlTagValues value = new XmlTagValues();
-							value.firstLineOfTag = tagLine + 1;
-							value.lastLineOfTag = line + 1;
-							value.nameStart = nameStart;
-							value.nameEnd = nameEnd;
-							value.firstColumn = firstColumn - (isClosingTag ? 1 : 0);
-							value.endColumn = column + 1;
-							value.name = name.toString();
-							value.isClosingTag = isClosingTag;
-							values.add(value);
-
-							result.add(new Object[] { new String[] { name.toString(), otherText.toString() }, value });
-							reset();
-							nameEnd = 0;
-						} else if (inInstruction && specChar.toString().endsWith("?")) {
-							reset();
-						} else if (inComment && specChar.toString().endsWith("--")) {
-							reset();
-						} else {
-							consume(c);
-						}
-						break;
-					case '/':
-						if (inTag && !inInstruction && name.length() == 0)
-							isClosingTag = true;
-						specChar.append((char) c);
-						break;
-					case '!':
-						if (inTag && !inInstruction && name.length() == 0) {
-							specChar.append((char) c);
-						} else
-							consume(c);
-						break;
-					case '-':
-						if (inTag && name.length() == 0 || inComment) {
-							specChar.append((char) c);
-						} else
-							consume(c);
-						if (specChar.toString().endsWith("!--")) {
-							inTag = false;
-							inInstruction = false;
-							inComment = true;
-
-						}
-						break;
-					case '?':
-						if (inTag && !inInstruction && name.length() == 0) {
-							inTag = false;
-							inInstruction = true;
-						} else if (inInstruction) {
-							specChar.append((char) c);
-						} else
-							consume(c);
-						break;
-					case ' ':
-					case '\t':
-						if (inName) {
-							inName = false;
-							nameEnd = offset - specChar.length();
-						}
-						consume(c);
-						break;
-					case '\r':
-						specChar.append((char) c);
-						line++;
-						column = -1;
-						break;
-					case '\n':
-						if (!specChar.toString().endsWith("\r")) {
-							line++;
-							column = -1;
-						}
-						if (inName) {
-							inName = false;
-							nameEnd = offset - specChar.length();
-						}
-						consume(c);
-						break;
-					default:
-						if (inTag && !inName && name.length() == 0) {
-							specChar = new StringBuffer();
-							inName = true;
-							nameStart = offset;
-							firstColumn = column;
-						}
-						consume(c);
-						break;
-					}
-					offset++;
-					column++;
+				int count;
+				while ((count = is.read(buffer)) != -1) {
+					update(buffer, 0, count);
 				}
 			} catch (IOException e) {
 				//
 			}
 		}
 
+		/**
+		 * Starts an incremental evaluation. The content is then passed in chunks to
+		 * {@link #update(byte[], int, int)}.
+		 */
+		protected void begin() {
+			result = new ArrayList<Object[]>();
+			offset = 0;
+			column = 0;
+			nameStart = 0;
+			nameEnd = 0;
+			line = 0;
+			tagLine = 0;
+			firstColumn = 0;
+			reset();
+		}
+
+		protected void update(final byte[] buffer, final int off, final int len) {
+			for (int i = off; i < off + len; i++) {
+				update(buffer[i] & 0xff);
+			}
+		}
+
+		private void update(final int c) {
+			switch (c) {
+			case '<':
+				if (!(inTag || inInstruction || inComment)) {
+					inTag = true;
+					tagLine = line;
+				} else {
+					consume(c);
+				}
+				break;
+			case '>':
+				if (inTag) {
+					if (nameEnd == 0)
+						nameEnd = offset - specChar.length();
+					if (line != tagLine)
+						firstColumn = 0;
+					XmlTagValues value = new XmlTagValues();
+					value.firstLineOfTag = tagLine + 1;
+					value.lastLineOfTag = line + 1;
+					value.nameStart = nameStart;
+					value.nameEnd = nameEnd;
+					value.firstColumn = firstColumn - (isClosingTag ? 1 : 0);
+					value.endColumn = column + 1;
+					value.name = name.toString();
+					value.isClosingTag = isClosingTag;
+					values.add(value);
+
+					result.add(new Object[] { new String[] { value.name, otherText.toString() }, value });
+					reset();
+					nameEnd = 0;
+				} else if (inInstruction && endsWith(specChar, "?")) {
+					reset();
+				} else if (inComment && endsWith(specChar, "--")) {
+					reset();
+				} else {
+					consume(c);
+				}
+				break;
+			case '/':
+				if (inTag && !inInstruction && name.length() == 0)
+					isClosingTag = true;
+				specChar.append((char) c);
+				break;
+			case '!':
+				if (inTag && !inInstruction && name.length() == 0) {
+					specChar.append((char) c);
+				} else
+					consume(c);
+				break;
+			case '-':
+				if (inTag && name.length() == 0 || inComment) {
+					specChar.append((char) c);
+				} else
+					consume(c);
+				if (endsWith(specChar, "!--")) {
+					inTag = false;
+					inInstruction = false;
+					inComment = true;
+
+				}
+				break;
+			case '?':
+				if (inTag && !inInstruction && name.length() == 0) {
+					inTag = false;
+					inInstruction = true;
+				} else if (inInstruction) {
+					specChar.append((char) c);
+				} else
+					consume(c);
+				break;
+			case ' ':
+			case '\t':
+				if (inName) {
+					inName = false;
+					nameEnd = offset - specChar.length();
+				}
+				consume(c);
+				break;
+			case '\r':
+				specChar.append((char) c);
+				line++;
+				column = -1;
+				break;
+			case '\n':
+				if (!endsWith(specChar, "\r")) {
+					line++;
+					column = -1;
+				}
+				if (inName) {
+					inName = false;
+					nameEnd = offset - specChar.length();
+				}
+				consume(c);
+				break;
+			default:
+				if (inTag && !inName && name.length() == 0) {
+					specChar.setLength(0);
+					inName = true;
+					nameStart = offset;
+					firstColumn = column;
+				}
+				consume(c);
+				break;
+			}
+			offset++;
+			column++;
+		}
+
+		private boolean endsWith(final StringBuffer buffer, final String suffix) {
+			final int start = buffer.length() - suffix.length();
+			if (start < 0)
+				return false;
+			for (int i = 0; i < suffix.length(); i++) {
+				if (buffer.charAt(start + i) != suffix.charAt(i))
+					return false;
+			}
+			return true;
+		}
+
 		private void consume(int c) {
 			if (inName)
-				name.append(specChar.toString() + (char) c);
+				name.append(specChar).append((char) c);
 			else if (name.length() > 0)
-				otherText.append(specChar.toString() + (char) c);
-			if (specChar.length() > 0)
-				specChar = new StringBuffer();
-			}
+				otherText.append(specChar).append((char) c);
+			specChar.setLength(0);
+		}
 
 		private void reset() {
 			otherText = new StringBuffer();
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.internal.core.ast.util;
+
+import org.eclipse.emf.mwe.internal.core.ast.AbstractASTBase;
+import org.eclipse.emf.mwe.internal.core.ast.ComponentAST;
+import org.eclipse.emf.mwe.internal.core.ast.DeclaredPropertyAST;
+import org.eclipse.emf.mwe.internal.core.ast.DeclaredPropertyFileAST;
+import org.eclipse.emf.mwe.internal.core.ast.InclusionAST;
+import org.eclipse.emf.mwe.internal.core.ast.ReferenceAST;
+import org.eclipse.emf.mwe.internal.core.ast.SimpleParamAST;
+
+/**
+ * Creates a deep copy of a freshly parsed AST. Only the state that is set by the
+ * {@link org.eclipse.emf.mwe.internal.core.ast.parser.WorkflowParser WorkflowParser}
+ * is copied, i.e. the copy is not initialized.
+ */
+public class VisitorCopier extends VisitorBase {
+
+	private void copyChildren(final ComponentAST from, final ComponentAST to) {
+		for (final AbstractASTBase child : from.getChildren()) {
+			to.addChild((AbstractASTBase) child.accept(this));
+		}
+	}
+
+	@Override
+	public Object visitComponentAST(final ComponentAST comp) {
+		final ComponentAST result = new ComponentAST(comp.getLocation(), comp.getName(), comp.getClazz(), comp
+				.getId());
+		copyChildren(comp, result);
+		return result;
+	}
+
+	@Override
+	public Object visitInclusionAST(final InclusionAST comp) {
+		final InclusionAST result = new InclusionAST(comp.getLocation(), comp.getName(), comp.getFile(), comp.getId(),
+				comp.isInheritAll());
+		copyChildren(comp, result);
+		return result;
+	}
+
+	@Override
+	public Object visitDeclaredPropertyAST(final DeclaredPropertyAST prop) {
+		return new DeclaredPropertyAST(prop.getLocation(), prop.getName(), prop.getValue());
+	}
+
+	@Override
+	public Object visitDeclaredPropertyFileAST(final DeclaredPropertyFileAST propFile) {
+		return new DeclaredPropertyFileAST(propFile.getLocation(), propFile.getFile());
+	}
+
+	@Override
+	public Object visitReferenceAST(final ReferenceAST ref) {
+		return new ReferenceAST(ref.getLocation(), ref.getName(), ref.getIdRef());
+	}
+
+	@Override
+	public Object visitSimpleParamAST(final SimpleParamAST param) {
+		return new SimpleParamAST(param.getLocation(), param.getName(), param.getValue());
+	}
+}
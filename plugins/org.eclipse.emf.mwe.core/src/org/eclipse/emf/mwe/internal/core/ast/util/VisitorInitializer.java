@@ -11,15 +11,14 @@
  *******************************************************************************/
 package org.eclipse.emf.mwe.internal.core.ast.util;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.Stack;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.emf.mwe.core.issues.Issues;
 import org.eclipse.emf.mwe.internal.core.ast.AbstractASTBase;
@@ -29,19 +28,11 @@ import org.eclipse.emf.mwe.internal.core.ast.DeclaredPropertyFileAST;
 import org.eclipse.emf.mwe.internal.core.ast.InclusionAST;
 import org.eclipse.emf.mwe.internal.core.ast.ReferenceAST;
 import org.eclipse.emf.mwe.internal.core.ast.SimpleParamAST;
+import org.eclipse.emf.mwe.internal.core.ast.parser.WorkflowFragmentCache;
 import org.eclipse.emf.mwe.internal.core.ast.parser.WorkflowParser;
 
 public class VisitorInitializer extends VisitorBase {
 
-	private VisitorInitializer cloneThis() {
-		final VisitorInitializer newOne = new VisitorInitializer(issues, props, beans);
-		newOne.beans = beans;
-		newOne.initialProps = initialProps;
-		newOne.props = props;
-		newOne.declaredPropertyNames = declaredPropertyNames;
-		return newOne;
-	}
-
 	public VisitorInitializer(final Issues issues, final Map<String, String> initialProperties,
 			final Map<String, ComponentAST> initialBeans) {
 		this.issues = issues;
@@ -60,10 +51,14 @@ public class VisitorInitializer extends VisitorBase {
 
 	private Map<String, String> initialProps = null;
 
+	private final Map<String, String> resolvedProps = new HashMap<String, String>();
+
+	private final Set<String> resolvingProps = new HashSet<String>();
+
 	private void traverseChildren(final ComponentAST c) {
 		for (final Object name : c.getChildren()) {
 			final AbstractASTBase element = (AbstractASTBase) name;
-			element.accept(cloneThis());
+			element.accept(this);
 		}
 	}
 
@@ -113,13 +108,26 @@ public class VisitorInitializer extends VisitorBase {
 		comp.setPassedBeans(paramBeans);
 		comp.setPassedProperties(params);
 		if (comp.getFile() != null) {
-			final WorkflowParser p = new WorkflowParser();
-			final InputStream in = loader.getResourceAsStream(translateFileURI(comp.getFile()));
-			if (in == null) {
-				issues.addError("Couldn't load workflow fragment from " + comp.getFile(), comp);
-				return comp;
+			final String uri = translateFileURI(comp.getFile());
+			final URL url = loader.getResource(uri);
+			final AbstractASTBase ref;
+			if (url != null) {
+				try {
+					ref = WorkflowFragmentCache.getInstance().parse(url, comp.getFile(), issues);
+				}
+				catch (final IOException e) {
+					issues.addError("Couldn't load workflow fragment from " + comp.getFile(), comp);
+					return comp;
+				}
+			}
+			else {
+				final InputStream in = loader.getResourceAsStream(uri);
+				if (in == null) {
+					issues.addError("Couldn't load workflow fragment from " + comp.getFile(), comp);
+					return comp;
+				}
+				ref = new WorkflowParser().parse(in, comp.getFile(), issues);
 			}
-			final AbstractASTBase ref = p.parse(in, comp.getFile(), issues);
 			comp.setImportedElement(ref);
 			if (ref == null) {
 				issues.addError("Couldn't parse nested workflow file " + comp.getFile(), comp);
@@ -171,7 +179,7 @@ public class VisitorInitializer extends VisitorBase {
 		if (prop.getValue() != null) {
 			final String n = replaceProperties(prop.getName(), prop);
 			if (!initialProps.containsKey(n)) {
-				props.put(n, replaceProperties(prop.getValue(), prop));
+				putProp(n, replaceProperties(prop.getValue(), prop));
 			}
 			else {
 				if (!declaredPropertyNames.add(n)) {
@@ -195,7 +203,7 @@ public class VisitorInitializer extends VisitorBase {
 				final String name = replaceProperties(string, propFile);
 				final String val = replaceProperties((String) properties.get(name), propFile);
 				if (!initialProps.containsKey(name)) {
-					props.put(name, val);
+					putProp(name, val);
 				}
 				else {
 					if (!declaredPropertyNames.add(name)) {
@@ -207,69 +215,114 @@ public class VisitorInitializer extends VisitorBase {
 		return props;
 	}
 
-	private static final Pattern PROPERTY_PATTERN = Pattern.compile("\\$\\{([\\w_\\.-]+)\\}");
-
-	private static final Pattern[] PROPERTY_WARN_PATTERN = { Pattern.compile("\\$\\(([\\w_\\.-]+)\\)") };
-
 	protected String replaceProperties(final String toResolve, final AbstractASTBase ast) {
 		return replaceProperties(toResolve, true, ast);
 	}
 
-	private final Stack<String> currentProp = new Stack<String>();
-
+	/**
+	 * Resolves all occurrences of <code>${name}</code> in the given string in a single pass.
+	 * Occurrences of <code>$(name)</code> are reported as warnings since they are most likely
+	 * a typo. Returns <code>null</code> if a referenced property cannot be resolved.
+	 */
 	protected String replaceProperties(final String toResolve, final boolean logIssues, final AbstractASTBase ast) {
 		if (toResolve == null) {
 			return null;
 		}
-		// if (currentProp.contains(toResolve)) {
-		// issues.addError("property "+toResolve+" not found!");
-		// return null;
-		// }
-		//
-		// try {
-		currentProp.push(toResolve);
-
-		// check for expressions the user probably didn't want to use
-		if (logIssues) {
-			for (final Pattern p : PROPERTY_WARN_PATTERN) {
-				final Matcher m = p.matcher(toResolve);
-				while (m.find()) {
-					issues.addWarning("The expression \"" + m.group(0)
-							+ "\" is not a valid property and therefore not resolved."
-							+ " Properties need to be enclosed in curly brackets, like: ${myProperty}");
+		int dollar = toResolve.indexOf('$');
+		if (dollar == -1) {
+			return toResolve;
+		}
+		final int length = toResolve.length();
+		StringBuilder buff = null;
+		boolean failed = false;
+		int index = 0;
+		while (dollar != -1 && dollar < length - 1) {
+			final char open = toResolve.charAt(dollar + 1);
+			if (open == '{' || open == '(') {
+				final int nameStart = dollar + 2;
+				int nameEnd = nameStart;
+				while (nameEnd < length && isPropertyNameChar(toResolve.charAt(nameEnd))) {
+					nameEnd++;
+				}
+				if (nameEnd > nameStart && nameEnd < length && toResolve.charAt(nameEnd) == (open == '{' ? '}' : ')')) {
+					if (open == '(') {
+						// check for expressions the user probably didn't want to use
+						if (logIssues) {
+							issues.addWarning("The expression \"" + toResolve.substring(dollar, nameEnd + 1)
+									+ "\" is not a valid property and therefore not resolved."
+									+ " Properties need to be enclosed in curly brackets, like: ${myProperty}");
+						}
+					}
+					else if (!failed) {
+						final String propValue = resolveProperty(toResolve.substring(nameStart, nameEnd), logIssues, ast);
+						if (propValue == null) {
+							failed = true;
+						}
+						else {
+							if (buff == null) {
+								buff = new StringBuilder(length + propValue.length());
+							}
+							buff.append(toResolve, index, dollar);
+							buff.append(propValue);
+							index = nameEnd + 1;
+						}
+					}
+					dollar = toResolve.indexOf('$', nameEnd + 1);
+					continue;
 				}
 			}
+			dollar = toResolve.indexOf('$', dollar + 1);
 		}
+		if (failed) {
+			return null;
+		}
+		if (buff == null) {
+			return toResolve;
+		}
+		buff.append(toResolve, index, length);
+		return buff.toString();
+	}
 
-		final Matcher m = PROPERTY_PATTERN.matcher(toResolve);
-		final StringBuffer buff = new StringBuffer();
-		int index = 0;
-		while (m.find()) {
-			final String varName = m.group(1);
-			String propValue = propGet(varName);
-			if (propValue == null) {
-				if (logIssues) {
-					issues.addError("property " + varName + " not specified. Dereferenced at "
-							+ ast.getLocation().toString());
-				}
+	private static boolean isPropertyNameChar(final char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '.'
+				|| c == '-';
+	}
 
-				return null;
+	private String resolveProperty(final String varName, final boolean logIssues, final AbstractASTBase ast) {
+		String result = resolvedProps.get(varName);
+		if (result != null) {
+			return result;
+		}
+		final String propValue = propGet(varName);
+		if (propValue == null) {
+			if (logIssues) {
+				issues.addError("property " + varName + " not specified. Dereferenced at "
+						+ ast.getLocation().toString());
 			}
-			else {
-				propValue = replaceProperties(propValue, logIssues, ast);
+			return null;
+		}
+		if (!resolvingProps.add(varName)) {
+			if (logIssues) {
+				issues.addError("property " + varName + " is defined recursively. Dereferenced at "
+						+ ast.getLocation().toString());
 			}
-			final int start = m.start();
-			final int end = m.end();
-			buff.append(toResolve.substring(index, start));
-			buff.append(propValue);
-			index = end;
+			return null;
 		}
-		buff.append(toResolve.substring(index));
-		return buff.toString();
-		// } finally {
-		// currentProp.pop();
-		// }
+		try {
+			result = replaceProperties(propValue, logIssues, ast);
+		}
+		finally {
+			resolvingProps.remove(varName);
+		}
+		if (result != null) {
+			resolvedProps.put(varName, result);
+		}
+		return result;
+	}
 
+	private void putProp(final String name, final String value) {
+		props.put(name, value);
+		resolvedProps.clear();
 	}
 
 	private String propGet(final String varName) {
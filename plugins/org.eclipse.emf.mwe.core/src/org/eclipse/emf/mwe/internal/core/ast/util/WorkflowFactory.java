@@ -26,10 +26,12 @@ import org.eclipse.emf.mwe.internal.core.ast.AbstractASTBase;
 import org.eclipse.emf.mwe.internal.core.ast.ComponentAST;
 import org.eclipse.emf.mwe.internal.core.ast.SimpleParamAST;
 import org.eclipse.emf.mwe.internal.core.ast.parser.WorkflowParser;
+import org.eclipse.emf.mwe.internal.core.ast.parser.XmlLocationAnalyser;
 import org.eclipse.emf.mwe.internal.core.ast.util.converter.BooleanConverter;
 import org.eclipse.emf.mwe.internal.core.ast.util.converter.Converter;
 import org.eclipse.emf.mwe.internal.core.ast.util.converter.FileConverter;
 import org.eclipse.emf.mwe.internal.core.ast.util.converter.IntegerConverter;
+import org.eclipse.emf.mwe.internal.core.ast.util.converter.LongConverter;
 import org.eclipse.emf.mwe.internal.core.ast.util.converter.StringArrayConverter;
 import org.eclipse.emf.mwe.internal.core.ast.util.converter.StringConverter;
 
@@ -43,6 +45,15 @@ public class WorkflowFactory {
 
 	private final ResourceLoader loader = ResourceLoaderFactory.createResourceLoader();
 
+	private XmlLocationAnalyser locationAnalyser;
+
+	/**
+	 * Lets the given analyser record the locations of the parsed workflow file.
+	 */
+	public void setLocationAnalyser(final XmlLocationAnalyser locationAnalyser) {
+		this.locationAnalyser = locationAnalyser;
+	}
+
 	public Workflow parseInitAndCreate(final String fileName, final Map<String, String> params, final Map<Class<?>, Converter<?>> converter, final Issues issues) {
 		final InputStream in = loader.getResourceAsStream(fileName);
 		if (in == null) {
@@ -100,6 +111,7 @@ public class WorkflowFactory {
 
 	public AbstractASTBase parseAndInitialize(final InputStream in, final String resourceName, final Issues issues, final Map<String, String> properties) {
 		final WorkflowParser wp = new WorkflowParser();
+		wp.setLocationAnalyser(locationAnalyser);
 		final AbstractASTBase wfast = wp.parse(in, resourceName, issues);
 
 		if (wfast != null) {
@@ -129,6 +141,8 @@ public class WorkflowFactory {
 		m.put(Boolean.TYPE, new BooleanConverter());
 		m.put(Integer.class, new IntegerConverter());
 		m.put(Integer.TYPE, new IntegerConverter());
+		m.put(Long.class, new LongConverter());
+		m.put(Long.TYPE, new LongConverter());
 		m.put(String[].class, new StringArrayConverter());
 		m.put(File.class, new FileConverter());
 		return m;
@@ -0,0 +1,19 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.internal.core.ast.util.converter;
+
+public class LongConverter implements Converter<Long> {
+
+    @Override
+    public Long convert(final String s) {
+        return Long.valueOf(s);
+    }
+
+}
@@ -79,14 +79,21 @@ public class DebugTarget extends DebugElement implements IDebugTarget {
 	}
 
 	private DebugTarget(ILaunch launch, IProcess process, Connection conn) throws DebugException {
+		this(launch, process);
+		dmm = DebugModelManager.newDebugModelManager(this, conn);
+
+		DebugPlugin.getDefault().getBreakpointManager().addBreakpointListener(this);
+	}
+
+	/**
+	 * Creates a target with its thread, but without a connection to the runtime process.
+	 */
+	protected DebugTarget(ILaunch launch, IProcess process) {
 		super(null);
 		fLaunch = launch;
 		target = this;
 		fProcess = process;
 		fThread = new DebugThread(this);
-		dmm = DebugModelManager.newDebugModelManager(this, conn);
-
-		DebugPlugin.getDefault().getBreakpointManager().addBreakpointListener(this);
 	}
 
 	// ******************************************** debug model related elements
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.internal.ui.debug.processing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.debug.core.IBreakpointListener;
+import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.emf.mwe.ui.debug.model.MWEBreakpoint;
+
+/**
+ * The MWE breakpoints indexed by their start offset. Registered as
+ * IBreakpointListener, so that the breakpoint of a suspended stack frame can be
+ * found without iterating over all breakpoints.
+ */
+public class BreakpointIndex implements IBreakpointListener {
+
+	private final Map<Integer, List<MWEBreakpoint>> breakpointsByOffset = new HashMap<Integer, List<MWEBreakpoint>>();
+
+	// the offset a breakpoint is indexed with, as its marker may have moved
+	// since. The breakpoint manager always passes the same instances.
+	private final Map<MWEBreakpoint, Integer> offsets = new IdentityHashMap<MWEBreakpoint, Integer>();
+
+	public synchronized void addAll(final IBreakpoint[] breakpoints) {
+		for (final IBreakpoint bp : breakpoints) {
+			breakpointAdded(bp);
+		}
+	}
+
+	/**
+	 * @return the first breakpoint at the given offset of a resource ending
+	 *         with the given name, or <code>null</code>
+	 * @see MWEBreakpoint#equals(int, String)
+	 */
+	public synchronized MWEBreakpoint find(final int charStart, final String resource) {
+		final List<MWEBreakpoint> candidates = breakpointsByOffset.get(charStart);
+		if (candidates != null) {
+			for (final MWEBreakpoint bp : candidates) {
+				if (bp.equals(charStart, resource))
+					return bp;
+			}
+		}
+		return null;
+	}
+
+	public synchronized int size() {
+		return offsets.size();
+	}
+
+	@Override
+	public synchronized void breakpointAdded(final IBreakpoint breakpoint) {
+		if (!supports(breakpoint))
+			return;
+		final MWEBreakpoint bp = (MWEBreakpoint) breakpoint;
+		remove(bp);
+		final int offset = bp.getOffset();
+		List<MWEBreakpoint> list = breakpointsByOffset.get(offset);
+		if (list == null) {
+			list = new ArrayList<MWEBreakpoint>(1);
+			breakpointsByOffset.put(offset, list);
+		}
+		list.add(bp);
+		offsets.put(bp, offset);
+	}
+
+	@Override
+	public synchronized void breakpointRemoved(final IBreakpoint breakpoint, final IMarkerDelta delta) {
+		if (supports(breakpoint)) {
+			remove((MWEBreakpoint) breakpoint);
+		}
+	}
+
+	@Override
+	public synchronized void breakpointChanged(final IBreakpoint breakpoint, final IMarkerDelta delta) {
+		// the offset changes if the marker moved
+		breakpointAdded(breakpoint);
+	}
+
+	private boolean supports(final IBreakpoint breakpoint) {
+		return breakpoint instanceof MWEBreakpoint && MWEBreakpoint.DEBUG_MODEL_ID.equals(breakpoint.getModelIdentifier());
+	}
+
+	private void remove(final MWEBreakpoint bp) {
+		final Integer offset = offsets.remove(bp);
+		if (offset == null)
+			return;
+		final List<MWEBreakpoint> list = breakpointsByOffset.get(offset);
+		for (final Iterator<MWEBreakpoint> iter = list.iterator(); iter.hasNext();) {
+			if (iter.next() == bp) {
+				iter.remove();
+			}
+		}
+		if (list.isEmpty()) {
+			breakpointsByOffset.remove(offset);
+		}
+	}
+}
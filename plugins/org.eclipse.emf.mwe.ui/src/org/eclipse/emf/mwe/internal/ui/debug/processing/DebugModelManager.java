@@ -13,13 +13,14 @@ package org.eclipse.emf.mwe.internal.ui.debug.processing;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IBreakpointManager;
 import org.eclipse.debug.core.IDebugEventSetListener;
-import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.emf.mwe.core.debug.model.SyntaxElement;
 import org.eclipse.emf.mwe.internal.core.debug.communication.Connection;
 import org.eclipse.emf.mwe.internal.core.debug.model.VarValueTO;
@@ -35,6 +36,10 @@ import org.eclipse.emf.mwe.ui.debug.processing.PluginExtensionManager;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 
 public class DebugModelManager implements IDebugEventSetListener {
+	// the debug views handle a resume event on a timer of 500 ms, see
+	// org.eclipse.debug.internal.ui.viewers.update.EventHandlerModelProxy.dispatchResume(...)
+	static final long VIEWER_UPDATE_DELAY = 700;
+
 	private final DebugTarget target;
 
 	private PluginExtensionManager extensionManager;
@@ -45,6 +50,11 @@ public class DebugModelManager implements IDebugEventSetListener {
 
 	private BreakpointPluginHandler bpHandler;
 
+	private final BreakpointIndex breakpoints = new BreakpointIndex();
+
+	// time of the last resume event, initially long enough ago
+	private volatile long resumedAt = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(VIEWER_UPDATE_DELAY);
+
 	public static DebugModelManager newDebugModelManager(final DebugTarget target, final Connection connection)
 			throws DebugException {
 		final DebugModelManager dmm = new DebugModelManager(target);
@@ -53,9 +63,12 @@ public class DebugModelManager implements IDebugEventSetListener {
 		return dmm;
 	}
 
-	private DebugModelManager(final DebugTarget target) {
+	DebugModelManager(final DebugTarget target) {
 		this.target = target;
 		DebugPlugin.getDefault().addDebugEventListener(this);
+		final IBreakpointManager breakpointManager = DebugPlugin.getDefault().getBreakpointManager();
+		breakpointManager.addBreakpointListener(breakpoints);
+		breakpoints.addAll(breakpointManager.getBreakpoints(MWEBreakpoint.DEBUG_MODEL_ID));
 	}
 
 	// -------------------------------------------------------------------------
@@ -113,6 +126,7 @@ public class DebugModelManager implements IDebugEventSetListener {
 	}
 
 	public void debuggerResumed() {
+		resumedAt = System.nanoTime();
 		target.setSuspended(false);
 		// Hint: we don't set STEP_IN, STEP_OVER or STEP_RETURN by intention
 		// because the ThreadEventHandler would only update CONTENT, but not
@@ -124,17 +138,20 @@ public class DebugModelManager implements IDebugEventSetListener {
 		target.setSuspended(true);
 		getThread().setStepping(false);
 		fireSuspendEvent(DebugEvent.CLIENT_REQUEST);
-		// wait until the delayed event handling is finished (>500ms) before
-		// returning and sending confirmation
-		// afterwards
-		// this is to make sure that the source view update event will be really
-		// thrown
-		// see
-		// org.eclipse.debug.internal.ui.viewers.update.EventHandlerModelProxy.dispatchResume(...)
-		try {
-			Thread.sleep(700);
-		}
-		catch (final InterruptedException e) {
+		// don't return and send the confirmation while the timer of the debug
+		// views for the last resume event may still be pending; this is to make
+		// sure that the source view update event will be really thrown.
+		// There is no event telling when the views are done, but the timer is
+		// only pending shortly after a resume, so usually there is no need to
+		// wait at all
+		final long pending = VIEWER_UPDATE_DELAY - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - resumedAt);
+		if (pending > 0) {
+			try {
+				Thread.sleep(pending);
+			}
+			catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
 		}
 	}
 
@@ -155,6 +172,7 @@ public class DebugModelManager implements IDebugEventSetListener {
 			if (event.getKind() == DebugEvent.TERMINATE) {
 				DebugPlugin.getDefault().removeDebugEventListener(this);
 				DebugPlugin.getDefault().getBreakpointManager().removeBreakpointListener(target);
+				DebugPlugin.getDefault().getBreakpointManager().removeBreakpointListener(breakpoints);
 				getThread().clearStack(0);
 				target.removeThread();
 				fireTerminateEvent();
@@ -173,14 +191,11 @@ public class DebugModelManager implements IDebugEventSetListener {
 	}
 
 	private boolean checkBreakPoint() {
-		final IBreakpoint[] breakpoints = DebugPlugin.getDefault().getBreakpointManager().getBreakpoints(
-				MWEBreakpoint.DEBUG_MODEL_ID);
 		final DebugStackFrame frame = getThread().getStackFramePeek();
-		for (final IBreakpoint bp : breakpoints) {
-			if (((MWEBreakpoint) bp).equals(frame.getCharStart(), frame.getResource())) {
-				getThread().setBreakpoint((MWEBreakpoint) bp);
-				return true;
-			}
+		final MWEBreakpoint bp = breakpoints.find(frame.getCharStart(), frame.getResource());
+		if (bp != null) {
+			getThread().setBreakpoint(bp);
+			return true;
 		}
 		return false;
 	}
@@ -132,6 +132,7 @@ public class MWEPluginAdapter implements PluginAdapter {
 		String wfFileName = file.getLocation().toString();
 
 		final WorkflowFactory factory = new WorkflowFactory();
+		factory.setLocationAnalyser(locationAnalyser);
 		final Issues issues = new IssuesImpl();
 		final Map<String, String> params = new HashMap<String, String>();
 
@@ -11,8 +11,12 @@
  *******************************************************************************/
 package org.eclipse.emf.mwe.utils;
 
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
 import org.eclipse.emf.mwe.core.lib.WorkflowComponentWithModelSlot;
 
 
@@ -23,17 +27,30 @@ public abstract class AbstractEMFWorkflowComponent extends
 		new StandaloneSetup();
 	}
 
+	/**
+	 * Use the resource set of {@link SingleGlobalResourceSet}. It is looked up
+	 * whenever the component accesses its resource set, so that the component
+	 * uses the one of the scope it is invoked in.
+	 */
 	public void setUseSingleGlobalResourceSet( final boolean b ) {
+		useSingleGlobalResourceSet = b;
 		if (b) {
 			resourceSet = SingleGlobalResourceSet.get();
 		}
 	}
 	
 	protected ResourceSet resourceSet = new ResourceSetImpl();
+
+	private boolean useSingleGlobalResourceSet = false;
 	
 	protected String uri;
 
+	private boolean useBinary = false;
+
+	private String binaryFileExtension = null;
+
 	public void setResourceSet(final ResourceSet resourceSet) {
+		this.useSingleGlobalResourceSet = false;
 		this.resourceSet = resourceSet;
 	}
 
@@ -42,10 +59,53 @@ public abstract class AbstractEMFWorkflowComponent extends
 	}
 	
 	public ResourceSet getResourceSet() {
+		if (useSingleGlobalResourceSet) {
+			resourceSet = SingleGlobalResourceSet.get();
+		}
 		return resourceSet;
 	}
 	
 	public String getUri() {
 		return uri;
 	}
+
+	/**
+	 * Read and write all resources in EMF's binary format instead of XMI, which
+	 * is much faster for large models.
+	 */
+	public void setUseBinary(final boolean useBinary) {
+		this.useBinary = useBinary;
+	}
+
+	/**
+	 * Read and write resources whose URI has the given file extension, e.g.
+	 * <code>xmib</code>, in EMF's binary format.
+	 */
+	public void setBinaryFileExtension(final String binaryFileExtension) {
+		this.binaryFileExtension = binaryFileExtension;
+	}
+
+	protected boolean isBinary(final URI uri) {
+		return useBinary || binaryFileExtension != null && binaryFileExtension.equals(uri.fileExtension());
+	}
+
+	/**
+	 * Creates a resource that is stored in EMF's binary format and adds it to
+	 * the resource set.
+	 */
+	protected Resource createBinaryResource(final URI uri) {
+		final Resource resource = new BinaryResourceImpl(uri);
+		getResourceSet().getResources().add(resource);
+		return resource;
+	}
+
+	/**
+	 * Creates an XMI resource and adds it to the resource set. Used if no factory
+	 * is registered for the URI, without touching the global registry.
+	 */
+	protected Resource createXMIResource(final URI uri) {
+		final Resource resource = new XMIResourceFactoryImpl().createResource(uri);
+		getResourceSet().getResources().add(resource);
+		return resource;
+	}
 }
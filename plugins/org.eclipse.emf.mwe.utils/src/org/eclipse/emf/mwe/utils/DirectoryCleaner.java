@@ -18,10 +18,29 @@ package org.eclipse.emf.mwe.utils;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -36,6 +55,14 @@ public class DirectoryCleaner extends AbstractWorkflowComponent2 {
 
 	private static final Log LOG = LogFactory.getLog(DirectoryCleaner.class);
 
+	private static final String TRASH_INFIX = ".mwe-trash-";
+
+	/**
+	 * The trash directories this VM is still restoring excluded entries from. They
+	 * are not left over from earlier runs.
+	 */
+	private static final Set<Path> RESTORING = Collections.newSetFromMap(new ConcurrentHashMap<Path, Boolean>());
+
 	private String directory;
 
 	private final Collection<String> excludes = new HashSet<String>();
@@ -44,6 +71,10 @@ public class DirectoryCleaner extends AbstractWorkflowComponent2 {
 
 	private boolean useDefaultExcludes = true;
 
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
+	private boolean deleteAsync = false;
+
 	/**
 	 * Sets the directory.
 	 *
@@ -71,11 +102,9 @@ public class DirectoryCleaner extends AbstractWorkflowComponent2 {
 				final File f = new File(dir);
 				if (f.exists() && f.isDirectory()) {
 					LOG.info("Cleaning " + f.getAbsolutePath());
-					try {
-						cleanFolder(f.getAbsolutePath());
-					}
-					catch (FileNotFoundException e) {
-						issues.addError(e.getMessage());
+					final Collection<String> failures = clean(f.getAbsoluteFile().toPath());
+					for (final String failure : failures) {
+						issues.addError(this, failure);
 					}
 				}
 			}
@@ -90,21 +119,17 @@ public class DirectoryCleaner extends AbstractWorkflowComponent2 {
 	}
 
 	/**
-	 * Deletes all files and subdirectories under dir. Returns true if all
-	 * deletions were successful. If a deletion fails, the method stops
-	 * attempting to delete and returns false.
+	 * Deletes all files under dir, the directories themselves are kept. Failures
+	 * are logged and do not stop the cleanup.
 	 */
 	public void cleanFolder(String srcGenPath) throws FileNotFoundException {
 		File f = new File(srcGenPath);
 		if (!f.exists())
 			throw new FileNotFoundException(srcGenPath + " " + f.getAbsolutePath());
 		LOG.debug("Cleaning folder " + f.getPath());
-		cleanFolder(f, new FileFilter() {
-			@Override
-			public boolean accept(File path) {
-				return !isExcluded(path);
-			}
-		}, false, false);
+		for (String failure : clean(f.getAbsoluteFile().toPath())) {
+			LOG.error(failure);
+		}
 	}
 
 	public boolean isExcluded(File path) {
@@ -113,44 +138,246 @@ public class DirectoryCleaner extends AbstractWorkflowComponent2 {
 		return excludes.contains(path.getName());
 	}
 
+	/**
+	 * Deletes the files accepted by the filter in the folder and in its accepted
+	 * subfolders. The folders are kept, the parent folder is only deleted on request.
+	 *
+	 * @deprecated use {@link #cleanFolder(String)}. The parameter
+	 *             <code>continueOnError</code> is ignored, the cleanup no longer stops
+	 *             at the first failure.
+	 */
+	@Deprecated
 	public boolean cleanFolder(File parentFolder, final FileFilter filter, boolean continueOnError,
 			boolean deleteParentFolder) throws FileNotFoundException {
 		if (!parentFolder.exists())
 			throw new FileNotFoundException(parentFolder.getAbsolutePath());
-		FileFilter myFilter = filter;
-		if (myFilter == null) {
-			myFilter = new FileFilter() {
-				@Override
-				public boolean accept(File pathname) {
-					return true;
-				}
-			};
-		}
 		LOG.debug("Cleaning folder " + parentFolder.toString());
-		final File[] contents = parentFolder.listFiles(myFilter);
-		for (int j = 0; contents!=null && j < contents.length; j++) {
-			final File file = contents[j];
-			if (file.isDirectory()) {
-				if (!cleanFolder(file, myFilter, continueOnError, false) && !continueOnError)
-					return false;
+		final FileFilter myFilter = filter != null ? filter : new FileFilter() {
+			@Override
+			public boolean accept(File pathname) {
+				return true;
 			}
-			else {
-				if (!file.delete()) {
-					LOG.error("Couldn't delete " + file.getAbsolutePath());
-					if (!continueOnError)
-						return false;
+		};
+		// always synchronous, the filter may look at the files it is given
+		final Collection<String> failures = clean(parentFolder.getAbsoluteFile().toPath(), myFilter, false);
+		for (final String failure : failures) {
+			LOG.error(failure);
+		}
+		if (!failures.isEmpty())
+			return false;
+		if (deleteParentFolder && !parentFolder.delete()) {
+			LOG.error("Couldn't delete " + parentFolder.getAbsolutePath());
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Cleans the given directory and returns the messages of all failed deletions.
+	 * Symbolic links are deleted but never followed.
+	 */
+	protected Collection<String> clean(final Path dir) {
+		return clean(dir, new FileFilter() {
+			@Override
+			public boolean accept(File path) {
+				return !isExcluded(path);
+			}
+		}, deleteAsync);
+	}
+
+	private Collection<String> clean(final Path dir, final FileFilter filter, final boolean async) {
+		final Queue<String> failures = new ConcurrentLinkedQueue<String>();
+		if (async && moveAsideAndDelete(dir, filter, failures))
+			return failures;
+		final DeleteFilesAction action = new DeleteFilesAction(dir, filter, failures);
+		if (parallelism <= 1) {
+			action.invoke();
+		}
+		else {
+			final ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				pool.invoke(action);
+			}
+			finally {
+				pool.shutdown();
+			}
+		}
+		return failures;
+	}
+
+	/**
+	 * Deletes the non-excluded files of one directory and forks a new action for each
+	 * subdirectory.
+	 */
+	private class DeleteFilesAction extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Path dir;
+
+		private final FileFilter filter;
+
+		private final Queue<String> failures;
+
+		DeleteFilesAction(final Path dir, final FileFilter filter, final Queue<String> failures) {
+			this.dir = dir;
+			this.filter = filter;
+			this.failures = failures;
+		}
+
+		@Override
+		protected void compute() {
+			final List<DeleteFilesAction> subActions = new ArrayList<DeleteFilesAction>();
+			try (DirectoryStream<Path> children = Files.newDirectoryStream(dir)) {
+				for (final Path child : children) {
+					if (!filter.accept(child.toFile()))
+						continue;
+					if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+						subActions.add(new DeleteFilesAction(child, filter, failures));
+					}
+					else {
+						delete(child, failures);
+					}
 				}
 			}
+			catch (final IOException e) {
+				failures.add("Couldn't list " + dir + ": " + e);
+			}
+			invokeAll(subActions);
+		}
+	}
+
+	private static void delete(final Path path, final Queue<String> failures) {
+		try {
+			Files.delete(path);
+		}
+		catch (final NoSuchFileException e) {
+			// already gone
 		}
-		if (deleteParentFolder) {
-			if (!parentFolder.delete()) {
-				LOG.error("Couldn't delete " + parentFolder.getAbsolutePath());
+		catch (final IOException e) {
+			failures.add("Couldn't delete " + path + ": " + e);
+		}
+	}
+
+	/**
+	 * Renames the directory to a trash directory next to it, recreates it with the
+	 * excluded entries and the subdirectories that are kept in the synchronous mode,
+	 * and deletes the trash in a background thread. The background thread also
+	 * deletes the trash that earlier runs have left behind. Returns
+	 * <code>false</code> if the directory cannot be renamed.
+	 */
+	private boolean moveAsideAndDelete(final Path dir, final FileFilter filter, final Queue<String> failures) {
+		final Path parent = dir.getParent();
+		if (parent == null || Files.isSymbolicLink(dir))
+			return false;
+		final String trashPrefix = "." + dir.getFileName() + TRASH_INFIX;
+		final Path trash = parent.resolve(trashPrefix + System.nanoTime());
+		RESTORING.add(trash);
+		try {
+			try {
+				Files.move(dir, trash, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (final IOException e) {
+				LOG.warn("Couldn't move " + dir + " to " + trash + ", deleting synchronously: " + e);
 				return false;
 			}
+			try {
+				Files.createDirectory(dir);
+			}
+			catch (final IOException e) {
+				failures.add("Couldn't recreate " + dir + ", its contents are left in " + trash + ": " + e);
+				return true;
+			}
+			if (!restore(trash, dir, filter, failures))
+				return true;
+		}
+		finally {
+			RESTORING.remove(trash);
 		}
+		final Thread deleter = new Thread("Deleting " + trash) {
+			@Override
+			public void run() {
+				final Queue<String> asyncFailures = new ConcurrentLinkedQueue<String>();
+				try (DirectoryStream<Path> siblings = Files.newDirectoryStream(parent)) {
+					for (final Path sibling : siblings) {
+						if (sibling.getFileName().toString().startsWith(trashPrefix) && !RESTORING.contains(sibling))
+							deleteRecursively(sibling, asyncFailures);
+					}
+				}
+				catch (final IOException e) {
+					asyncFailures.add("Couldn't list " + parent + ": " + e);
+				}
+				for (final String failure : asyncFailures) {
+					LOG.error(failure);
+				}
+			}
+		};
+		// keep the VM alive until the trash is gone
+		deleter.setDaemon(false);
+		deleter.start();
 		return true;
 	}
 
+	/**
+	 * Moves the excluded entries of the trash back to their original location and
+	 * recreates the subdirectories. Returns <code>false</code> if an entry could not
+	 * be moved back, in which case the trash must not be deleted.
+	 */
+	private static boolean restore(final Path trashDir, final Path dir, final FileFilter filter,
+			final Queue<String> failures) {
+		boolean restored = true;
+		try (DirectoryStream<Path> children = Files.newDirectoryStream(trashDir)) {
+			for (final Path child : children) {
+				final Path target = dir.resolve(child.getFileName().toString());
+				try {
+					if (!filter.accept(child.toFile())) {
+						Files.move(child, target, LinkOption.NOFOLLOW_LINKS);
+					}
+					else if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+						Files.createDirectory(target);
+						restored &= restore(child, target, filter, failures);
+					}
+				}
+				catch (final IOException e) {
+					failures.add("Couldn't restore " + target + " from " + child + ": " + e);
+					restored = false;
+				}
+			}
+		}
+		catch (final IOException e) {
+			failures.add("Couldn't list " + trashDir + ": " + e);
+			restored = false;
+		}
+		return restored;
+	}
+
+	private static void deleteRecursively(final Path root, final Queue<String> failures) {
+		try {
+			Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+					delete(file, failures);
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+					if (!(exc instanceof NoSuchFileException))
+						failures.add("Couldn't access " + file + ": " + exc);
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult postVisitDirectory(final Path dir, final IOException exc) {
+					delete(dir, failures);
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		}
+		catch (final IOException e) {
+			failures.add("Couldn't delete " + root + ": " + e);
+		}
+	}
+
 	/**
 	 * Returns if the default excludes are used.
 	 *
@@ -172,6 +399,39 @@ public class DirectoryCleaner extends AbstractWorkflowComponent2 {
 		this.useDefaultExcludes = useDefaultExcludes;
 	}
 
+	/**
+	 * Sets the number of threads used to delete files. Defaults to the number of
+	 * available processors.
+	 *
+	 * @param parallelism
+	 *            the number of threads, <code>1</code> deletes in the calling
+	 *            thread.
+	 */
+	public void setParallelism(final int parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Sets if the directory is renamed to a trash directory next to it and deleted in
+	 * the background. Excludes and directories are restored as in the synchronous
+	 * mode. Trash left behind by an interrupted run is deleted by the next one.
+	 *
+	 * @param deleteAsync
+	 *            If <code>true</code>, the directory is emptied instantly and the
+	 *            files are deleted by a background thread.
+	 */
+	public void setDeleteAsync(final boolean deleteAsync) {
+		this.deleteAsync = deleteAsync;
+	}
+
+	public boolean isDeleteAsync() {
+		return deleteAsync;
+	}
+
 	/**
 	 * Adds an exclude.
 	 *
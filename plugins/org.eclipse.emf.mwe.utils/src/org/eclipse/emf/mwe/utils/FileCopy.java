@@ -4,8 +4,31 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.channels.FileChannel;
+import java.nio.file.FileSystem;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.eclipse.emf.mwe.core.WorkflowContext;
 import org.eclipse.emf.mwe.core.issues.Issues;
 import org.eclipse.emf.mwe.core.lib.AbstractWorkflowComponent;
@@ -13,12 +36,31 @@ import org.eclipse.emf.mwe.core.monitor.ProgressMonitor;
 
 /**
  * Copies one file in the file system to another location. Performs low-level read/write operations using NIO.
- * 
+ * <p>
+ * Alternatively, the files of a whole directory tree can be copied by setting a source and target directory. Files
+ * are selected by glob patterns relative to the source directory (see {@link java.nio.file.FileSystem#getPathMatcher(String)}),
+ * files whose size and modification time (or optionally content) match the target file are skipped, and the files
+ * are copied in parallel. The numbers of copied, skipped and failed files are stored in the slots
+ * <code>&lt;statisticsSlot&gt;_copied</code>, <code>&lt;statisticsSlot&gt;_skipped</code> and
+ * <code>&lt;statisticsSlot&gt;_failed</code>.
+ *
  * @author Achim Demelt
  */
 public class FileCopy extends AbstractWorkflowComponent {
+	private static final Log LOG = LogFactory.getLog(FileCopy.class);
+
+	private static final long CHUNK_SIZE = 64L * 1024 * 1024;
+
 	private String sourceFile = null;
 	private String targetFile = null;
+	private String sourceDirectory = null;
+	private String targetDirectory = null;
+	private final List<String> includes = new ArrayList<String>();
+	private final List<String> excludes = new ArrayList<String>();
+	private boolean compareContent = false;
+	private long granularity = System.getProperty("os.name", "").startsWith("Windows") ? 2000 : 1000;
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+	private String statisticsSlot = "fileCopy";
 
 	public void setSourceFile(String sourceFile) {
 		this.sourceFile = sourceFile;
@@ -28,8 +70,80 @@ public class FileCopy extends AbstractWorkflowComponent {
 		this.targetFile = targetFile;
 	}
 
+	/**
+	 * Sets the root of the directory tree to copy.
+	 */
+	public void setSourceDirectory(String sourceDirectory) {
+		this.sourceDirectory = sourceDirectory;
+	}
+
+	/**
+	 * Sets the directory the tree is copied to.
+	 */
+	public void setTargetDirectory(String targetDirectory) {
+		this.targetDirectory = targetDirectory;
+	}
+
+	/**
+	 * Adds a glob pattern, e.g. <code>**&#47;*.java</code>, for files that should be copied. If no includes are
+	 * given, all files are copied.
+	 */
+	public void addInclude(String include) {
+		includes.add(include);
+	}
+
+	/**
+	 * Adds a glob pattern for files that should not be copied.
+	 */
+	public void addExclude(String exclude) {
+		excludes.add(exclude);
+	}
+
+	/**
+	 * If <code>true</code>, existing target files are only skipped if their content equals the source file.
+	 * Otherwise size and modification time are compared.
+	 */
+	public void setCompareContent(boolean compareContent) {
+		this.compareContent = compareContent;
+	}
+
+	/**
+	 * Sets the number of milliseconds the modification times of source and target file may differ by while still
+	 * being considered equal, since file systems differ in the precision of time stamps. Defaults to 2000 on Windows
+	 * (FAT) and 1000 elsewhere.
+	 */
+	public void setGranularity(long granularity) {
+		this.granularity = granularity;
+	}
+
+	/**
+	 * Sets the number of threads copying files. Defaults to the number of available processors.
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Sets the prefix of the slots the statistics are stored in. Defaults to <code>fileCopy</code>.
+	 */
+	public void setStatisticsSlot(String statisticsSlot) {
+		this.statisticsSlot = statisticsSlot;
+	}
+
 	@Override
 	public void checkConfiguration(Issues issues) {
+		if (sourceDirectory != null || targetDirectory != null) {
+			if (sourceDirectory == null) {
+				issues.addError("No sourceDirectory set.");
+			}
+			if (targetDirectory == null) {
+				issues.addError("No targetDirectory set.");
+			}
+			if (sourceFile != null || targetFile != null) {
+				issues.addError("Either sourceFile and targetFile or sourceDirectory and targetDirectory can be set.");
+			}
+			return;
+		}
 		if (sourceFile == null) {
 			issues.addError("No sourceFile set.");
 		}
@@ -40,6 +154,10 @@ public class FileCopy extends AbstractWorkflowComponent {
 
 	@Override
 	protected void invokeInternal(WorkflowContext ctx, ProgressMonitor monitor, Issues issues) {
+		if (sourceDirectory != null) {
+			copyDirectory(ctx, issues);
+			return;
+		}
 		try {
 			File source = new File(sourceFile);
 			File target = new File(targetFile);
@@ -52,18 +170,139 @@ public class FileCopy extends AbstractWorkflowComponent {
 				target.createNewFile();
 			}
 
-			
+
 			try (
 				FileInputStream fileInputStream = new FileInputStream(source);
 				FileOutputStream fileOutputStream = new FileOutputStream(target);
 				FileChannel sourceChannel = fileInputStream.getChannel();
 				FileChannel destinationChannel = fileOutputStream.getChannel();
 			) {
-				destinationChannel.transferFrom(sourceChannel, 0, sourceChannel.size());
+				// transferFrom may copy less than requested
+				long size = sourceChannel.size();
+				long position = 0;
+				while (position < size) {
+					position += destinationChannel.transferFrom(sourceChannel, position, Math.min(CHUNK_SIZE, size - position));
+				}
 			}
 		}
 		catch (IOException x) {
 			issues.addError(this, "Cannot perform I/O.", x);
 		}
 	}
+
+	protected void copyDirectory(WorkflowContext ctx, Issues issues) {
+		final Path source = new File(sourceDirectory).getAbsoluteFile().toPath();
+		final Path target = new File(targetDirectory).getAbsoluteFile().toPath();
+		if (!Files.isDirectory(source)) {
+			issues.addWarning(this, "Source directory " + sourceDirectory + " does not exist. Skipping.");
+			return;
+		}
+		final AtomicInteger copied = new AtomicInteger();
+		final AtomicInteger skipped = new AtomicInteger();
+		final Queue<String> failures = new ConcurrentLinkedQueue<String>();
+		final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism));
+		final List<Future<?>> futures = new ArrayList<Future<?>>();
+		try {
+			final List<PathMatcher> includeMatchers = createMatchers(source.getFileSystem(), includes);
+			final List<PathMatcher> excludeMatchers = createMatchers(source.getFileSystem(), excludes);
+			Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult visitFile(final Path file, BasicFileAttributes attrs) {
+					final Path relative = source.relativize(file);
+					if (!isIncluded(relative, includeMatchers, excludeMatchers)) {
+						return FileVisitResult.CONTINUE;
+					}
+					futures.add(executor.submit(new Runnable() {
+						@Override
+						public void run() {
+							Path targetFile = target.resolve(relative.toString());
+							try {
+								if (isIdentical(file, targetFile)) {
+									skipped.incrementAndGet();
+								} else {
+									Files.createDirectories(targetFile.getParent());
+									Files.copy(file, targetFile, StandardCopyOption.REPLACE_EXISTING,
+											StandardCopyOption.COPY_ATTRIBUTES);
+									copied.incrementAndGet();
+								}
+							} catch (IOException e) {
+								failures.add("Couldn't copy " + file + " to " + targetFile + ": " + e);
+							}
+						}
+					}));
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path file, IOException exc) {
+					failures.add("Couldn't access " + file + ": " + exc);
+					return FileVisitResult.CONTINUE;
+				}
+			});
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (IOException e) {
+			failures.add("Couldn't copy " + source + ": " + e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			failures.add("Copying " + source + " has been interrupted.");
+		} catch (ExecutionException e) {
+			failures.add("Couldn't copy " + source + ": " + e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+		for (String failure : failures) {
+			issues.addError(this, failure);
+		}
+		LOG.info("Copied " + copied + " files from " + source + " to " + target + ", " + skipped + " unchanged, "
+				+ failures.size() + " failed.");
+		ctx.set(statisticsSlot + "_copied", copied.get());
+		ctx.set(statisticsSlot + "_skipped", skipped.get());
+		ctx.set(statisticsSlot + "_failed", failures.size());
+	}
+
+	private List<PathMatcher> createMatchers(FileSystem fileSystem, List<String> patterns) {
+		List<PathMatcher> result = new ArrayList<PathMatcher>(patterns.size());
+		for (String pattern : patterns) {
+			result.add(fileSystem.getPathMatcher("glob:" + pattern));
+		}
+		return result;
+	}
+
+	private boolean isIncluded(Path relative, List<PathMatcher> includeMatchers, List<PathMatcher> excludeMatchers) {
+		for (PathMatcher exclude : excludeMatchers) {
+			if (exclude.matches(relative))
+				return false;
+		}
+		if (includeMatchers.isEmpty())
+			return true;
+		for (PathMatcher include : includeMatchers) {
+			if (include.matches(relative))
+				return true;
+		}
+		return false;
+	}
+
+	protected boolean isIdentical(Path source, Path target) throws IOException {
+		if (!Files.isRegularFile(target) || Files.size(source) != Files.size(target))
+			return false;
+		if (compareContent)
+			return Arrays.equals(digest(source), digest(target));
+		return Math.abs(Files.getLastModifiedTime(source).toMillis() - Files.getLastModifiedTime(target).toMillis()) <= granularity;
+	}
+
+	private byte[] digest(Path file) throws IOException {
+		try (InputStream in = Files.newInputStream(file)) {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] buffer = new byte[64 * 1024];
+			int count;
+			while ((count = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, count);
+			}
+			return digest.digest();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+	}
 }
@@ -38,6 +38,12 @@ public class Reader extends AbstractEMFWorkflowComponent {
 
 	@Override
 	public void invokeInternal(final WorkflowContext ctx, final ProgressMonitor monitor, final Issues issues) {
+		final ResourceSet resourceSet = getResourceSet();
+		final URI resourceURI = URI.createURI(uri);
+		if (isBinary(resourceURI) && resourceSet.getResource(resourceURI, false) == null) {
+			// loaded on demand by load()
+			createBinaryResource(resourceURI);
+		}
 		ctx.set(getModelSlot(), load(resourceSet, uri, firstElementOnly, ignoreMissingModel));
 		if (makeEPackagesGlobal) {
 			for (final String k : resourceSet.getPackageRegistry().keySet()) {
@@ -13,16 +13,70 @@ package org.eclipse.emf.mwe.utils;
 
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.mwe.core.lib.ThreadScope;
 
+/**
+ * Holds the resource set shared by all components with
+ * <code>useSingleGlobalResourceSet</code>.
+ * <p>
+ * By default there is one resource set per JVM. Workflows that run in parallel
+ * in the same JVM should each be run within a {@link Scope}, which provides a
+ * resource set of its own to the thread it has been opened in:
+ * 
+ * <pre>
+ * SingleGlobalResourceSet.Scope scope = SingleGlobalResourceSet.open();
+ * try {
+ * 	runner.executeWorkflow(params, issues);
+ * } finally {
+ * 	scope.close();
+ * }
+ * </pre>
+ */
 public class SingleGlobalResourceSet {
 
 	private static ResourceSet rs;
 
+	private static final ThreadLocal<Scope> currentScope = new ThreadLocal<Scope>();
+
+	/**
+	 * @return the resource set of the innermost scope opened by the current
+	 *         thread, or the global one if there is none.
+	 */
 	public static ResourceSet get() {
-		if ( rs == null ) {
-			rs = new ResourceSetImpl();
+		Scope scope = currentScope.get();
+		if (scope != null) {
+			return scope.getResourceSet();
+		}
+		synchronized (SingleGlobalResourceSet.class) {
+			if ( rs == null ) {
+				rs = new ResourceSetImpl();
+			}
+			return rs;
+		}
+	}
+
+	/**
+	 * Opens a scope for the current thread. Until it is closed, {@link #get()}
+	 * returns a new resource set in this thread.
+	 */
+	public static Scope open() {
+		return new Scope();
+	}
+
+	public static class Scope extends ThreadScope<Scope> {
+
+		private ResourceSet resourceSet;
+
+		private Scope() {
+			super(currentScope);
+		}
+
+		public ResourceSet getResourceSet() {
+			if (resourceSet == null) {
+				resourceSet = new ResourceSetImpl();
+			}
+			return resourceSet;
 		}
-		return rs;
 	}
 
 }
@@ -23,7 +23,6 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.xmi.XMLResource;
-import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
 import org.eclipse.emf.mwe.core.WorkflowContext;
 import org.eclipse.emf.mwe.core.WorkflowInterruptedException;
 import org.eclipse.emf.mwe.core.issues.Issues;
@@ -121,10 +120,8 @@ public class Writer extends AbstractEMFWorkflowComponent {
 			}
 		}
 
-		Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().put("*", new XMIResourceFactoryImpl());
-
 		if (!multipleResourcesInCaseOfList) {
-			final Resource r = getResourceSet().createResource(URI.createURI(getUri()));
+			final Resource r = createResource(getUri());
 			if (slotContent instanceof Collection<?>) {
 				r.getContents().addAll((Collection<EObject>) slotContent);
 			}
@@ -139,7 +136,7 @@ public class Writer extends AbstractEMFWorkflowComponent {
 				final Collection<Resource> resources = new ArrayList<Resource>();
 				for (final Object object : coll) {
 					final EObject eo = (EObject) object;
-					final Resource r = getResourceSet().createResource(URI.createURI(createResourceName(eo)));
+					final Resource r = createResource(createResourceName(eo));
 					r.getContents().add(eo);
 					resources.add(r);
 				}
@@ -148,13 +145,22 @@ public class Writer extends AbstractEMFWorkflowComponent {
 				}
 			}
 			else {
-				final Resource r = getResourceSet().createResource(URI.createURI(getUri()));
+				final Resource r = createResource(getUri());
 				r.getContents().add((EObject) slotContent);
 				write(r);
 			}
 		}
 	}
 
+	private Resource createResource(final String uri) {
+		final URI resourceURI = URI.createURI(uri);
+		if (isBinary(resourceURI)) {
+			return createBinaryResource(resourceURI);
+		}
+		final Resource resource = getResourceSet().createResource(resourceURI);
+		return resource != null ? resource : createXMIResource(resourceURI);
+	}
+
 	private String createResourceName(final EObject eo) {
 		return getUri() + (getUri().endsWith("/") ? "" : "/") + getName(eo) + ".ecore";
 	}
@@ -9,9 +9,15 @@
  *******************************************************************************/
 package org.eclipse.emf.mwe2.language.ui.highlighting;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.mwe2.language.mwe2.Assignment;
 import org.eclipse.emf.mwe2.language.mwe2.Component;
 import org.eclipse.emf.mwe2.language.services.Mwe2GrammarAccess;
@@ -23,6 +29,7 @@ import org.eclipse.xtext.ide.editor.syntaxcoloring.ISemanticHighlightingCalculat
 import org.eclipse.xtext.nodemodel.ICompositeNode;
 import org.eclipse.xtext.nodemodel.ILeafNode;
 import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.service.OperationCanceledManager;
 import org.eclipse.xtext.ui.editor.syntaxcoloring.DefaultHighlightingConfiguration;
@@ -30,6 +37,15 @@ import org.eclipse.xtext.util.CancelIndicator;
 
 import com.google.inject.Inject;
 
+/**
+ * Highlights property references, feature references and deprecated elements.
+ * <p>
+ * The result is remembered at the resource. If the text has been changed since
+ * the last call, only the innermost component enclosing the change is
+ * highlighted again and the positions before and after it are reused.
+ * Unchanged text is highlighted completely, as deprecation of the referenced
+ * types may have changed.
+ */
 public class SemanticHighlightingCalculator implements ISemanticHighlightingCalculator {
 
 	@Inject
@@ -40,58 +56,162 @@ public class SemanticHighlightingCalculator implements ISemanticHighlightingCalc
 
 	@Override
 	public void provideHighlightingFor(final XtextResource resource, IHighlightedPositionAcceptor acceptor, CancelIndicator cancelIndicator) {
-		if (resource == null)
+		if (resource == null || resource.getParseResult() == null)
 			return;
 
-		Iterator<INode> iter = resource.getParseResult().getRootNode().getAsTreeIterable().iterator();
+		ICompositeNode rootNode = resource.getParseResult().getRootNode();
+		String text = rootNode.getText();
+		HighlightingState previous = (HighlightingState) EcoreUtil.getAdapter(resource.eAdapters(), HighlightingState.class);
+		HighlightingState current = null;
+		if (previous != null && !previous.text.equals(text)) {
+			current = computeIncrementally(rootNode, text, previous, cancelIndicator);
+		}
+		if (current == null) {
+			current = new HighlightingState(text);
+			highlight(rootNode, current, cancelIndicator);
+		}
+		if (previous != null) {
+			resource.eAdapters().remove(previous);
+		}
+		resource.eAdapters().add(current);
+		for (HighlightedPosition position : current.positions) {
+			acceptor.addPosition(position.offset, position.length, position.ids);
+		}
+	}
+
+	/**
+	 * @return the new state, or <code>null</code> if the change is not
+	 *         enclosed by a component that was already there before.
+	 */
+	protected HighlightingState computeIncrementally(ICompositeNode rootNode, String text, HighlightingState previous,
+			CancelIndicator cancelIndicator) {
+		String oldText = previous.text;
+		int prefix = 0;
+		int maxPrefix = Math.min(text.length(), oldText.length());
+		while (prefix < maxPrefix && text.charAt(prefix) == oldText.charAt(prefix)) {
+			prefix++;
+		}
+		int suffix = 0;
+		int maxSuffix = maxPrefix - prefix;
+		while (suffix < maxSuffix
+				&& text.charAt(text.length() - suffix - 1) == oldText.charAt(oldText.length() - suffix - 1)) {
+			suffix++;
+		}
+		int delta = text.length() - oldText.length();
+		ICompositeNode region = findEnclosingComponent(rootNode, prefix, text.length() - suffix, delta, previous);
+		if (region == null)
+			return null;
+
+		int start = region.getTotalOffset();
+		int oldEnd = region.getTotalEndOffset() - delta;
+		HighlightingState result = new HighlightingState(text);
+		for (HighlightedPosition position : previous.positions) {
+			if (position.offset + position.length <= start) {
+				result.positions.add(position);
+			}
+		}
+		highlight(region, result, cancelIndicator);
+		for (HighlightedPosition position : previous.positions) {
+			if (position.offset >= oldEnd) {
+				result.positions.add(new HighlightedPosition(position.offset + delta, position.length, position.ids));
+			}
+		}
+		for (Long component : previous.components) {
+			int offset = offset(component);
+			int end = offset + length(component);
+			if (end <= start) {
+				result.components.add(component);
+			} else if (offset >= oldEnd) {
+				result.components.add(region(offset + delta, length(component)));
+			} else if (offset <= start && end >= oldEnd) {
+				// enclosing components grow or shrink with the change
+				result.components.add(region(offset, length(component) + delta));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Finds the innermost component node that encloses the changed text and
+	 * had the same extent before the change, i.e. the change did not alter the
+	 * structure of the document around it.
+	 */
+	protected ICompositeNode findEnclosingComponent(ICompositeNode rootNode, int changeStart, int changeEnd, int delta,
+			HighlightingState previous) {
+		ILeafNode leaf = NodeModelUtils.findLeafNodeAtOffset(rootNode, changeStart);
+		if (leaf == null)
+			return null;
+		for (ICompositeNode node = leaf.getParent(); node != null; node = node.getParent()) {
+			if (isComponent(node) && node.getTotalOffset() <= changeStart && node.getTotalEndOffset() >= changeEnd
+					&& previous.components.contains(region(node.getTotalOffset(), node.getTotalLength() - delta))) {
+				return node;
+			}
+		}
+		return null;
+	}
+
+	protected void highlight(ICompositeNode parent, HighlightingState state, CancelIndicator cancelIndicator) {
+		Iterator<INode> iter = parent.getAsTreeIterable().iterator();
 		while(iter.hasNext()) {
 			operationCanceledManager.checkCanceled(cancelIndicator);
 			INode node = iter.next();
-			EObject grammarElement = node.getGrammarElement();
-			if (grammarElement == grammarAccess.getPropertyReferenceImplAccess()
-					.getReferableDeclaredPropertyCrossReference_0()) {
-				highlightNode(node, MweHighlightingConfiguration.PROPERTY_REF, acceptor);
-				highlightNode(node, MweHighlightingConfiguration.STRING_PROP_REF, acceptor);
-				for(INode sibling: node.getParent().getChildren()) {
-					if (sibling != node) {
-						if (sibling.getGrammarElement() == grammarAccess.getML_COMMENTRule() || sibling.getGrammarElement() == grammarAccess.getSL_COMMENTRule()) {
-							highlightNode(sibling, DefaultHighlightingConfiguration.COMMENT_ID, acceptor);
-						}
-					}
-				}
-				if (node instanceof ICompositeNode) {
-					for(INode child: ((ICompositeNode) node).getChildren()) {
-						if (child.getGrammarElement() == grammarAccess.getML_COMMENTRule() || child.getGrammarElement() == grammarAccess.getSL_COMMENTRule()) {
-							highlightNode(child, DefaultHighlightingConfiguration.COMMENT_ID, acceptor);
-						}
+			if (isComponent(node)) {
+				state.components.add(region(node.getTotalOffset(), node.getTotalLength()));
+			}
+			highlight(node, state);
+		}
+	}
+
+	protected void highlight(INode node, IHighlightedPositionAcceptor acceptor) {
+		EObject grammarElement = node.getGrammarElement();
+		if (grammarElement == grammarAccess.getPropertyReferenceImplAccess()
+				.getReferableDeclaredPropertyCrossReference_0()) {
+			highlightNode(node, MweHighlightingConfiguration.PROPERTY_REF, acceptor);
+			highlightNode(node, MweHighlightingConfiguration.STRING_PROP_REF, acceptor);
+			for(INode sibling: node.getParent().getChildren()) {
+				if (sibling != node) {
+					if (sibling.getGrammarElement() == grammarAccess.getML_COMMENTRule() || sibling.getGrammarElement() == grammarAccess.getSL_COMMENTRule()) {
+						highlightNode(sibling, DefaultHighlightingConfiguration.COMMENT_ID, acceptor);
 					}
 				}
-			} else if (grammarElement == grammarAccess.getPropertyReferenceAccess().getDollarSignLeftCurlyBracketKeyword_0()
-					|| grammarElement == grammarAccess.getPropertyReferenceAccess().getRightCurlyBracketKeyword_2()) {
-				highlightNode(node, MweHighlightingConfiguration.STRING_PROP_REF, acceptor);
-			} else if (grammarElement == grammarAccess.getReferenceAccess()
-					.getReferableReferrableCrossReference_0()) {
-				highlightNode(node, MweHighlightingConfiguration.PROPERTY_REF, acceptor);
-			} else if (grammarElement == grammarAccess.getAssignmentAccess()
-					.getFeatureJvmIdentifiableElementCrossReference_0_0()) {
-				highlightNode(node, MweHighlightingConfiguration.FEATURE_REF, acceptor);
-				Assignment semanticObject = (Assignment) node.getSemanticElement();
-				if (semanticObject.getFeature() instanceof JvmOperation) {
-					JvmOperation operation = (JvmOperation) semanticObject.getFeature();
-					if (DeprecationUtil.isDeprecated(operation)) {
-						highlightNode(node, MweHighlightingConfiguration.DEPRECATED_ELEMENT, acceptor);
+			}
+			if (node instanceof ICompositeNode) {
+				for(INode child: ((ICompositeNode) node).getChildren()) {
+					if (child.getGrammarElement() == grammarAccess.getML_COMMENTRule() || child.getGrammarElement() == grammarAccess.getSL_COMMENTRule()) {
+						highlightNode(child, DefaultHighlightingConfiguration.COMMENT_ID, acceptor);
 					}
 				}
-			} else if (grammarElement == grammarAccess.getComponentAccess().getTypeJvmTypeCrossReference_1_0_0()
-					|| grammarElement == grammarAccess.getRootComponentAccess().getTypeJvmTypeCrossReference_1_0_0()) {
-				Component component = (Component) node.getSemanticElement();
-				if (component.getType() instanceof JvmAnnotationTarget && DeprecationUtil.isDeprecated((JvmAnnotationTarget) component.getType())) {
+			}
+		} else if (grammarElement == grammarAccess.getPropertyReferenceAccess().getDollarSignLeftCurlyBracketKeyword_0()
+				|| grammarElement == grammarAccess.getPropertyReferenceAccess().getRightCurlyBracketKeyword_2()) {
+			highlightNode(node, MweHighlightingConfiguration.STRING_PROP_REF, acceptor);
+		} else if (grammarElement == grammarAccess.getReferenceAccess()
+				.getReferableReferrableCrossReference_0()) {
+			highlightNode(node, MweHighlightingConfiguration.PROPERTY_REF, acceptor);
+		} else if (grammarElement == grammarAccess.getAssignmentAccess()
+				.getFeatureJvmIdentifiableElementCrossReference_0_0()) {
+			highlightNode(node, MweHighlightingConfiguration.FEATURE_REF, acceptor);
+			Assignment semanticObject = (Assignment) node.getSemanticElement();
+			if (semanticObject.getFeature() instanceof JvmOperation) {
+				JvmOperation operation = (JvmOperation) semanticObject.getFeature();
+				if (DeprecationUtil.isDeprecated(operation)) {
 					highlightNode(node, MweHighlightingConfiguration.DEPRECATED_ELEMENT, acceptor);
 				}
 			}
+		} else if (grammarElement == grammarAccess.getComponentAccess().getTypeJvmTypeCrossReference_1_0_0()
+				|| grammarElement == grammarAccess.getRootComponentAccess().getTypeJvmTypeCrossReference_1_0_0()) {
+			Component component = (Component) node.getSemanticElement();
+			if (component.getType() instanceof JvmAnnotationTarget && DeprecationUtil.isDeprecated((JvmAnnotationTarget) component.getType())) {
+				highlightNode(node, MweHighlightingConfiguration.DEPRECATED_ELEMENT, acceptor);
+			}
 		}
 	}
 
+	private boolean isComponent(INode node) {
+		return node instanceof ICompositeNode && node.hasDirectSemanticElement()
+				&& node.getSemanticElement() instanceof Component;
+	}
+
 	private void highlightNode(INode node, String id, IHighlightedPositionAcceptor acceptor) {
 		if (node == null)
 			return;
@@ -106,4 +226,58 @@ public class SemanticHighlightingCalculator implements ISemanticHighlightingCalc
 		}
 	}
 
+	private static long region(int offset, int length) {
+		return ((long) offset << 32) | length;
+	}
+
+	private static int offset(long region) {
+		return (int) (region >>> 32);
+	}
+
+	private static int length(long region) {
+		return (int) region;
+	}
+
+	/**
+	 * The highlighted positions of a resource's text together with the
+	 * extents of its components.
+	 */
+	protected static class HighlightingState extends AdapterImpl implements IHighlightedPositionAcceptor {
+
+		private final String text;
+
+		private final List<HighlightedPosition> positions = new ArrayList<HighlightedPosition>();
+
+		private final Set<Long> components = new HashSet<Long>();
+
+		protected HighlightingState(String text) {
+			this.text = text;
+		}
+
+		@Override
+		public void addPosition(int offset, int length, String... id) {
+			positions.add(new HighlightedPosition(offset, length, id));
+		}
+
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return type == HighlightingState.class;
+		}
+	}
+
+	private static class HighlightedPosition {
+
+		private final int offset;
+
+		private final int length;
+
+		private final String[] ids;
+
+		private HighlightedPosition(int offset, int length, String[] ids) {
+			this.offset = offset;
+			this.length = length;
+			this.ids = ids;
+		}
+	}
+
 }
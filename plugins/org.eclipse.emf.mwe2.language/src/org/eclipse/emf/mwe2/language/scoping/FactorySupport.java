@@ -20,10 +20,13 @@ import org.eclipse.xtext.common.types.JvmTypeReference;
 import org.eclipse.xtext.common.types.access.IJvmTypeProvider;
 import org.eclipse.xtext.common.types.xtext.AbstractTypeScopeProvider;
 
+import com.google.common.base.Function;
 import com.google.inject.Inject;
 
 @SuppressWarnings("restriction") 
 public class FactorySupport {
+	private static final String FACTORIES_CREATION_TYPE = FactorySupport.class.getName() + ".factoriesCreationType";
+
 	@Inject
 	private AbstractTypeScopeProvider typeScopeProvider;
 
@@ -31,7 +34,25 @@ public class FactorySupport {
 		this.typeScopeProvider = typeScopeProvider;
 	}
 
+	@Inject(optional = true)
+	private JvmTypeHierarchyCache cache;
+
+	public void setCache(JvmTypeHierarchyCache cache) {
+		this.cache = cache;
+	}
+
 	public JvmType findFactoriesCreationType(JvmType containerType) {
+		if (cache == null)
+			return computeFactoriesCreationType(containerType);
+		return cache.get(FACTORIES_CREATION_TYPE, containerType, new Function<JvmType, JvmType>() {
+			@Override
+			public JvmType apply(JvmType from) {
+				return computeFactoriesCreationType(from);
+			}
+		});
+	}
+
+	protected JvmType computeFactoriesCreationType(JvmType containerType) {
 		JvmType factoryType = getFactoryType(containerType);
 		if (factoryType == null)
 			return null;
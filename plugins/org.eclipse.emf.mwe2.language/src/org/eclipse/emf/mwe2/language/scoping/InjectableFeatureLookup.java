@@ -21,13 +21,35 @@ import org.eclipse.xtext.common.types.JvmTypeReference;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.util.Strings;
 
+import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import com.google.inject.Inject;
 
 public class InjectableFeatureLookup implements IInjectableFeatureLookup {
 	
+	private static final String INJECTABLE_FEATURES = InjectableFeatureLookup.class.getName() + ".injectableFeatures";
+	
+	@Inject(optional = true)
+	private JvmTypeHierarchyCache cache;
+	
+	public void setCache(JvmTypeHierarchyCache cache) {
+		this.cache = cache;
+	}
+	
 	@Override
 	public Map<QualifiedName, JvmFeature> getInjectableFeatures(JvmType type) {
+		if (cache == null)
+			return computeInjectableFeatures(type);
+		return cache.get(INJECTABLE_FEATURES, type, new Function<JvmType, Map<QualifiedName, JvmFeature>>() {
+			@Override
+			public Map<QualifiedName, JvmFeature> apply(JvmType from) {
+				return computeInjectableFeatures(from);
+			}
+		});
+	}
+	
+	protected Map<QualifiedName, JvmFeature> computeInjectableFeatures(JvmType type) {
 		Map<QualifiedName, JvmFeature> result = Maps.newHashMap();
 		collectFeatures(type, result);
 		return ImmutableMap.copyOf(result);
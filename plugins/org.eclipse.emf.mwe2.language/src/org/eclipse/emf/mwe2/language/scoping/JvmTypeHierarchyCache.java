@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe2.language.scoping;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.JvmType;
+import org.eclipse.xtext.common.types.JvmTypeReference;
+import org.eclipse.xtext.util.IResourceScopeCache;
+import org.eclipse.xtext.util.Tuples;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+
+/**
+ * Caches values that are computed from a {@link JvmType} and its super types.
+ *
+ * Values are stored in the {@link IResourceScopeCache} of the type's resource, thus
+ * they are discarded as soon as that resource changes. Since a value depends on the
+ * super types as well, it is recomputed if one of them has been unloaded in the meantime.
+ */
+@Singleton
+public class JvmTypeHierarchyCache {
+
+	@Inject
+	private IResourceScopeCache cache;
+
+	public void setCache(IResourceScopeCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Returns the value for the given type and key. The computation is only invoked
+	 * if there is no valid cached value.
+	 */
+	public <T> T get(Object key, final JvmType type, final Function<JvmType, T> computation) {
+		if (cache == null || type == null || type.eIsProxy() || type.eResource() == null)
+			return computation.apply(type);
+		Entry<T> entry = cache.get(Tuples.create(key, type), type.eResource(), new Provider<Entry<T>>() {
+			@Override
+			public Entry<T> get() {
+				return new Entry<T>();
+			}
+		});
+		return entry.get(type, computation);
+	}
+
+	protected static class Entry<T> {
+		private T value;
+		private List<JvmType> hierarchy;
+
+		protected synchronized T get(JvmType type, Function<JvmType, T> computation) {
+			if (hierarchy == null || !isValid()) {
+				hierarchy = collectHierarchy(type);
+				value = computation.apply(type);
+			}
+			return value;
+		}
+
+		private boolean isValid() {
+			for (JvmType type : hierarchy) {
+				if (type.eIsProxy() || type.eResource() == null)
+					return false;
+			}
+			return true;
+		}
+	}
+
+	protected static List<JvmType> collectHierarchy(JvmType type) {
+		Set<JvmType> result = Sets.newLinkedHashSet();
+		collectHierarchy(type, result);
+		return ImmutableList.copyOf(result);
+	}
+
+	private static void collectHierarchy(JvmType type, Set<JvmType> result) {
+		if (type == null || !result.add(type))
+			return;
+		if (type instanceof JvmDeclaredType && !type.eIsProxy()) {
+			for (JvmTypeReference superType : ((JvmDeclaredType) type).getSuperTypes()) {
+				collectHierarchy(superType.getType(), result);
+			}
+		}
+	}
+}
@@ -10,6 +10,7 @@ package org.eclipse.emf.mwe2.language.validation;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -28,6 +29,7 @@ import org.eclipse.emf.mwe2.language.mwe2.Referrable;
 import org.eclipse.emf.mwe2.language.scoping.FactorySupport;
 import org.eclipse.emf.mwe2.language.scoping.Mwe2ScopeProvider;
 import org.eclipse.emf.mwe2.runtime.Mandatory;
+import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.common.types.JvmAnnotationReference;
 import org.eclipse.xtext.common.types.JvmAnnotationTarget;
 import org.eclipse.xtext.common.types.JvmConstructor;
@@ -192,6 +194,7 @@ public class Mwe2Validator extends AbstractMwe2Validator {
 		TreeIterator<EObject> iterator = referable.eResource().getAllContents();
 		Set<String> referenced = Sets.newHashSet();
 		Multimap<String, Referrable> declared = HashMultimap.create();
+		Map<Object, FeatureInfo> featureInfos = getMemo(FEATURE_INFO_KEY);
 		while (iterator.hasNext()) {
 			EObject next = iterator.next();
 			if (next instanceof Referrable) {
@@ -205,7 +208,7 @@ public class Mwe2Validator extends AbstractMwe2Validator {
 			if (next instanceof Component) {
 				Component component = (Component) next;
 				if (component.isAutoInject()) {
-					Set<String> featureNames = collectFeatureNames(component);
+					Set<String> featureNames = Sets.newHashSet(getFeatureInfo(component, featureInfos).features.keySet());
 					Set<String> explicitlyAssignedFeature = Sets.newHashSet();
 					for(Assignment assignment: component.getAssignment()) {
 						explicitlyAssignedFeature.add(assignment.getFeatureName());
@@ -242,12 +245,7 @@ public class Mwe2Validator extends AbstractMwe2Validator {
 	}
 	
 	public Set<String> collectFeatureNames(Component component) {
-		Set<String> result = Sets.newHashSet();
-		IScope scope = scopeProvider.createComponentFeaturesScope(component);
-		for(IEObjectDescription description: scope.getAllElements()) {
-			result.add(qualifiedNameConverter.toString(description.getName()));
-		}
-		return result;
+		return Sets.newHashSet(getFeatureInfo(component, null).features.keySet());
 	}
 	
 	public final static String MISSING_DEFAULT_CONSTRUCTOR = "missing_default_constructor";
@@ -302,11 +300,22 @@ public class Mwe2Validator extends AbstractMwe2Validator {
 	
 	@Check
 	public void checkManadatoryFeaturesAssigned(Component component) {
-		Map<String, JvmIdentifiableElement> mandatoryFeatures = collectMandatoryFeatures(component);
+		Map<String, JvmIdentifiableElement> mandatoryFeatures = Maps.newHashMap(
+				getMandatoryFeatures(getFeatureInfo(component, getMemo(FEATURE_INFO_KEY))));
 		if (!mandatoryFeatures.isEmpty()) {
-			Map<String, Referrable> availableProperties = collectReferablesUpTo(component);
-			Set<String> assignedFeatures = getAssignedFeatures(availableProperties, component);
-			mandatoryFeatures.keySet().removeAll(assignedFeatures);
+			mandatoryFeatures.keySet().removeAll(getExplicitlyAssignedFeatures(component));
+			if (component.isAutoInject() && !mandatoryFeatures.isEmpty()) {
+				ReferableIndex index = getReferableIndex(component, getMemo(REFERABLE_INDEX_KEY));
+				if (index != null) {
+					Iterator<String> iterator = mandatoryFeatures.keySet().iterator();
+					while (iterator.hasNext()) {
+						if (index.isVisible(iterator.next(), component))
+							iterator.remove();
+					}
+				} else {
+					mandatoryFeatures.keySet().removeAll(collectReferablesUpTo(component).keySet());
+				}
+			}
 			if (!mandatoryFeatures.isEmpty()) {
 				List<String> missingAssignments = Lists.newArrayList(mandatoryFeatures.keySet());
 				Collections.sort(missingAssignments);
@@ -336,12 +345,8 @@ public class Mwe2Validator extends AbstractMwe2Validator {
 		}
 	}
 	
-	private Set<String> getAssignedFeatures(
-			Map<String, Referrable> availableProperties, Component component) {
+	private Set<String> getExplicitlyAssignedFeatures(Component component) {
 		Set<String> result = Sets.newHashSet();
-		if (component.isAutoInject()) {
-			result.addAll(availableProperties.keySet());
-		}
 		for(Assignment assignment: component.getAssignment()) {
 			if (assignment.getFeature() != null && !assignment.getFeature().eIsProxy()) {
 				JvmIdentifiableElement feature = assignment.getFeature();
@@ -371,17 +376,136 @@ public class Mwe2Validator extends AbstractMwe2Validator {
 	}
 	
 	public Map<String, JvmIdentifiableElement> collectMandatoryFeatures(Component component) {
-		Map<String, JvmIdentifiableElement> result = Maps.newHashMap();
-		IScope scope = scopeProvider.createComponentFeaturesScope(component);
-		for(IEObjectDescription description: scope.getAllElements()) {
-			JvmIdentifiableElement jvmFeature = (JvmIdentifiableElement) description.getEObjectOrProxy();
-			if (isMandatory(jvmFeature)) {
-				result.put(qualifiedNameConverter.toString(description.getName()), jvmFeature);
+		return Maps.newHashMap(getMandatoryFeatures(getFeatureInfo(component, null)));
+	}
+	
+	private Map<String, JvmIdentifiableElement> getMandatoryFeatures(FeatureInfo info) {
+		if (info.mandatory == null) {
+			info.mandatory = Maps.newHashMap();
+			for(Map.Entry<String, JvmIdentifiableElement> entry: info.features.entrySet()) {
+				if (isMandatory(entry.getValue())) {
+					info.mandatory.put(entry.getKey(), entry.getValue());
+				}
 			}
 		}
+		return info.mandatory;
+	}
+	
+	/**
+	 * Returns the features of the given component. If a cache is given, the result is
+	 * shared by all components of the same type (or the same referenced module).
+	 */
+	protected FeatureInfo getFeatureInfo(Component component, Map<Object, FeatureInfo> cache) {
+		Object key = component.getModule();
+		if (key == null) {
+			key = component.getActualType();
+			if (key == null || ((JvmType) key).eIsProxy())
+				key = component;
+		}
+		FeatureInfo result = cache != null ? cache.get(key) : null;
+		if (result == null) {
+			result = new FeatureInfo();
+			IScope scope = scopeProvider.createComponentFeaturesScope(component);
+			for(IEObjectDescription description: scope.getAllElements()) {
+				result.features.put(
+						qualifiedNameConverter.toString(description.getName()),
+						(JvmIdentifiableElement) description.getEObjectOrProxy());
+			}
+			if (cache != null)
+				cache.put(key, result);
+		}
+		return result;
+	}
+	
+	/**
+	 * Returns an index of the referables of the module that contains the given
+	 * component or <code>null</code> if the component is not part of the
+	 * module's root component tree.
+	 */
+	protected ReferableIndex getReferableIndex(Component component, Map<Object, ReferableIndex> cache) {
+		Module module = EcoreUtil2.getContainerOfType(component, Module.class);
+		if (module == null)
+			return null;
+		ReferableIndex result = cache != null ? cache.get(module) : null;
+		if (result == null) {
+			result = new ReferableIndex(module);
+			if (cache != null)
+				cache.put(module, result);
+		}
+		return result.contains(component) ? result : null;
+	}
+	
+	/**
+	 * Returns a map that lives as long as the current validation pass. May only be
+	 * called from within a {@link Check check method}.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> Map<Object, T> getMemo(String key) {
+		Map<Object, Object> context = getContext();
+		if (context == null)
+			return null;
+		Map<Object, T> result = (Map<Object, T>) context.get(key);
+		if (result == null) {
+			result = Maps.newHashMap();
+			context.put(key, result);
+		}
 		return result;
 	}
 	
+	private final static String FEATURE_INFO_KEY = Mwe2Validator.class.getName() + ".featureInfo";
+	private final static String REFERABLE_INDEX_KEY = Mwe2Validator.class.getName() + ".referableIndex";
+	
+	protected static class FeatureInfo {
+		private final Map<String, JvmIdentifiableElement> features = Maps.newHashMap();
+		private Map<String, JvmIdentifiableElement> mandatory;
+	}
+	
+	/**
+	 * Pre-order numbering of the components in a module's root tree along with
+	 * the position where each name is declared first. Declared properties are
+	 * visible everywhere in the tree and thus get the position <code>-1</code>.
+	 * A name is visible at a component if it was declared at or before its position,
+	 * which is what {@link Mwe2ScopeProvider#collectReferablesUpTo(EObject, boolean, List)}
+	 * would compute.
+	 */
+	protected static class ReferableIndex {
+		private final Map<Component, Integer> positions = Maps.newHashMap();
+		private final Map<String, Integer> firstDeclarations = Maps.newHashMap();
+		
+		protected ReferableIndex(Module module) {
+			for (DeclaredProperty prop : module.getDeclaredProperties()) {
+				declare(prop.getName(), -1);
+			}
+			if (module.getRoot() != null)
+				index(module.getRoot());
+		}
+		
+		private void index(Component component) {
+			int position = positions.size();
+			positions.put(component, position);
+			declare(component.getName(), position);
+			for (Assignment assignment : component.getAssignment()) {
+				if (assignment.getValue() instanceof Component) {
+					index((Component) assignment.getValue());
+				}
+			}
+		}
+		
+		private void declare(String name, int position) {
+			if (name != null && !firstDeclarations.containsKey(name))
+				firstDeclarations.put(name, position);
+		}
+		
+		public boolean contains(Component component) {
+			return positions.containsKey(component);
+		}
+		
+		public boolean isVisible(String name, Component component) {
+			Integer declaration = firstDeclarations.get(name);
+			return declaration != null && declaration <= positions.get(component);
+		}
+	}
+	
 	public boolean isMandatory(JvmIdentifiableElement feature) {
 		if (feature.eIsProxy())
 			return false;
@@ -9,7 +9,15 @@
  *******************************************************************************/
 package org.eclipse.emf.mwe2.launch.runtime;
 
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.cli.CommandLine;
@@ -30,30 +38,57 @@ import com.google.inject.Injector;
 public class Mwe2Launcher {
 	private static final String PARAM = "p";
 	
+	private static final String BATCH = "b";
+	
+	private static final String FILE = "f";
+	
 	private static final Logger logger = Logger.getLogger(Mwe2Launcher.class);
 
+	private Injector injector;
+	
+	private Mwe2Runner runner;
+
 	public static void main(String[] args) {
+		int status;
 		try {
-			new Mwe2Launcher().run(args);
+			status = new Mwe2Launcher().launch(args);
 		} catch(Throwable throwable) {
 			logger.error(throwable.getMessage(), throwable);
-			System.exit(1);
+			status = 1;
 		}
+		if (status != 0)
+			System.exit(status);
 	}
 
 	public void run(String[] args) {
+		launch(args);
+	}
+
+	/**
+	 * Runs the module(s) given by the command line arguments. In batch mode, i.e. if
+	 * the option <code>-batch</code> or <code>-file</code> is given, all modules are run
+	 * sequentially with the same injector and a failing module does not prevent the
+	 * remaining ones from being run.
+	 * 
+	 * @return <code>0</code> if all modules have been run successfully, <code>1</code>
+	 *         otherwise.
+	 */
+	public int launch(String[] args) {
 		Options options = getOptions();
 		final CommandLineParser parser = new PosixParser();
 		CommandLine line = null;
 		try {
 			line = parser.parse(options, args);
-			if (line.getArgs().length == 0)
+			boolean batch = line.hasOption(BATCH) || line.hasOption(FILE);
+			List<String> moduleNames = new ArrayList<String>(Arrays.asList(line.getArgs()));
+			if (line.hasOption(FILE))
+				moduleNames.addAll(readModuleNames(line.getOptionValue(FILE)));
+			if (moduleNames.isEmpty())
 				throw new ParseException("No module name specified.");
-			if (line.getArgs().length > 1)
+			if (!batch && moduleNames.size() > 1)
 				throw new ParseException("Only one module name expected. But " + line.getArgs().length
 						+ " were passed (" + line.getArgList() + ")");
 
-			String moduleName = line.getArgs()[0];
 			Map<String, String> params = new HashMap<String, String>();
 			String[] optionValues = line.getOptionValues(PARAM);
 			if (optionValues != null) {
@@ -73,17 +108,20 @@ public class Mwe2Launcher {
 			// check  OperationCanceledException is accessible
 			OperationCanceledException.class.getName();
 			
-			Injector injector = new Mwe2StandaloneSetup().createInjectorAndDoEMFRegistration();
-			Mwe2Runner mweRunner = injector.getInstance(Mwe2Runner.class);
-			if (moduleName.contains("/")) {
-				mweRunner.run(URI.createURI(moduleName), params);
-			} else {
-				mweRunner.run(moduleName, params);
+			if (!batch) {
+				run(getRunner(), moduleNames.get(0), params);
+				return 0;
 			}
+			for (int status : runBatch(moduleNames, params)) {
+				if (status != 0)
+					return 1;
+			}
+			return 0;
 		} catch(NoClassDefFoundError e) {
 			if ("org/eclipse/core/runtime/OperationCanceledException".equals(e.getMessage())){
 				System.err.println("Could not load class: org.eclipse.core.runtime.OperationCanceledException");
 				System.err.println("Add org.eclipse.equinox.common to the class path.");
+				return 1;
 			} else {
 				throw e;
 			}
@@ -91,8 +129,87 @@ public class Mwe2Launcher {
 			final HelpFormatter formatter = new HelpFormatter();
 			System.err.println("Parsing arguments failed.  Reason: " + exp.getMessage());
 			formatter.printHelp("java " + Mwe2Launcher.class.getName() + " some.mwe2.Module [options]\n", options);
-			return;
+			return 1;
+		}
+	}
+
+	/**
+	 * Runs the given modules one after another. The injector, the {@link Mwe2Runner} and
+	 * its resource set of already parsed modules are shared, see
+	 * {@link Mwe2Runner#run(List, Map)}.
+	 * 
+	 * @return the status of each module in the order of <code>moduleNames</code>, i.e.
+	 *         <code>0</code> if the module has been run successfully and <code>1</code>
+	 *         if it failed.
+	 */
+	public int[] runBatch(List<String> moduleNames, Map<String, String> params) {
+		int[] result = new int[moduleNames.size()];
+		Mwe2Runner mweRunner = getRunner();
+		for (int i = 0; i < result.length; i++) {
+			String moduleName = moduleNames.get(i);
+			try {
+				logger.info("Running module " + moduleName);
+				mweRunner.run(Collections.singletonList(moduleName), new HashMap<String, String>(params));
+				result[i] = 0;
+			} catch (RuntimeException e) {
+				logger.error("Module " + moduleName + " failed: " + e.getMessage(), e);
+				result[i] = 1;
+			}
+		}
+		return result;
+	}
+
+	protected void run(Mwe2Runner mweRunner, String moduleName, Map<String, String> params) {
+		if (moduleName.contains("/")) {
+			mweRunner.run(URI.createURI(moduleName), params);
+		} else {
+			mweRunner.run(moduleName, params);
+		}
+	}
+
+	protected Injector createInjector() {
+		return new Mwe2StandaloneSetup().createInjectorAndDoEMFRegistration();
+	}
+
+	protected Mwe2Runner getRunner() {
+		if (runner == null) {
+			if (injector == null)
+				injector = createInjector();
+			runner = injector.getInstance(Mwe2Runner.class);
+		}
+		return runner;
+	}
+
+	/**
+	 * Reads one module name per line. Empty lines and lines starting with '#' are
+	 * ignored. The file name '-' denotes the standard input.
+	 */
+	protected List<String> readModuleNames(String fileName) throws ParseException {
+		List<String> result = new ArrayList<String>();
+		BufferedReader reader = null;
+		try {
+			if ("-".equals(fileName))
+				reader = new BufferedReader(new InputStreamReader(System.in));
+			else
+				reader = new BufferedReader(new FileReader(fileName));
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (line.length() > 0 && !line.startsWith("#"))
+					result.add(line);
+			}
+		} catch (IOException e) {
+			throw new ParseException("Couldn't read module names from '" + fileName + "': " + e.getMessage());
+		} finally {
+			if (reader != null && !"-".equals(fileName)) {
+				try {
+					reader.close();
+				} catch (IOException e) {
+					// ignore
+				}
+			}
 		}
+		return result;
 	}
 
 	@SuppressWarnings("static-access")
@@ -102,6 +219,14 @@ public class Mwe2Launcher {
 				"external property that is handled as workflow property").hasArgs().create(PARAM);
 		paramOption.setLongOpt("param");
 		options.addOption(paramOption);
+		final Option batchOption = new Option(BATCH, "batch", false,
+				"run all given modules sequentially with a shared injector");
+		options.addOption(batchOption);
+		final Option fileOption = OptionBuilder.withArgName("file").withDescription(
+				"read the names of the modules to run in batch mode from the file, one per line ('-' for stdin)")
+				.hasArg().create(FILE);
+		fileOption.setLongOpt("file");
+		options.addOption(fileOption);
 		return options;
 	}
 }
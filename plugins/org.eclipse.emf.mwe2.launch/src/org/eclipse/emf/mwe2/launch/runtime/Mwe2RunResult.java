@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe2.launch.runtime;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.emf.mwe2.runtime.workflow.IWorkflowContext;
+
+import com.google.common.collect.Maps;
+
+/**
+ * The outcome of one run of {@link Mwe2Runner#runSweep(String, java.util.List, int)}:
+ * the parameters, the context the workflow has been run with and the exception it
+ * failed with, if any.
+ */
+public class Mwe2RunResult {
+
+	private final Map<String, String> params;
+
+	private final IWorkflowContext context;
+
+	private volatile RuntimeException exception;
+
+	public Mwe2RunResult(Map<String, String> params, IWorkflowContext context) {
+		this.params = Collections.unmodifiableMap(Maps.newLinkedHashMap(params));
+		this.context = context;
+	}
+
+	public Map<String, String> getParams() {
+		return params;
+	}
+
+	public IWorkflowContext getContext() {
+		return context;
+	}
+
+	public RuntimeException getException() {
+		return exception;
+	}
+
+	public void setException(RuntimeException exception) {
+		this.exception = exception;
+	}
+
+	public boolean isSuccessful() {
+		return exception == null;
+	}
+
+	@Override
+	public String toString() {
+		return params + (exception == null ? ": ok" : ": " + exception.getMessage());
+	}
+}
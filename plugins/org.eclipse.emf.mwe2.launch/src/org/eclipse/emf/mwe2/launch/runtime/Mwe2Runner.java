@@ -9,14 +9,20 @@
  *******************************************************************************/
 package org.eclipse.emf.mwe2.launch.runtime;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.mwe2.language.factory.Mwe2ExecutionEngine;
 import org.eclipse.emf.mwe2.language.mwe2.Module;
@@ -31,6 +37,7 @@ import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceDescriptions;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
@@ -49,23 +56,20 @@ public class Mwe2Runner {
 	@Inject
 	private IQualifiedNameConverter qualifiedNameConverter;
 
+	private ResourceSet sharedResourceSet;
+
+	private final Map<URI, Long> timeStamps = Maps.newHashMap();
+
 	public void run(URI createURI, Map<String, String> params) {
 		run(createURI, params, ctxProvider.get());
 	}
 
 	public void run(URI createURI, Map<String, String> params, IWorkflowContext ctx) {
-		ResourceSet resourceSet = getConfiguredResourceSet();
-		Resource resource = resourceSet.getResource(createURI, true);
-		if (resource != null) {
-			if (!resource.getContents().isEmpty()) {
-				EObject eObject = resource.getContents().get(0);
-				if (eObject instanceof Module) {
-					run(((Module) eObject), params, ctx);
-					return;
-				}
-			}
+		Module module = loadModule(createURI, getConfiguredResourceSet());
+		if (module == null) {
+			throw new IllegalArgumentException("Couldn't load module from URI " + createURI);
 		}
-		throw new IllegalArgumentException("Couldn't load module from URI " + createURI);
+		run(module, params, ctx);
 	}
 
 	public void run(String moduleName, Map<String, String> params) {
@@ -80,7 +84,94 @@ public class Mwe2Runner {
 		run(module, params, ctx);
 	}
 	
+	/**
+	 * Runs the given modules one after another, each with a new context. In contrast to
+	 * the other run methods, the parsed modules are kept in a resource set that is shared
+	 * by all modules and by subsequent calls, so a module that is imported by many others
+	 * is parsed only once. The shared resource set is discarded as soon as one of its
+	 * files has been changed on disk. Names containing a '/' are treated as URIs, all
+	 * others as qualified module names.
+	 */
+	public synchronized void run(List<String> moduleNames, Map<String, String> params) {
+		for (String moduleName : moduleNames) {
+			Module module = findSharedModule(moduleName);
+			try {
+				run(module, params, ctxProvider.get());
+			} finally {
+				recordTimeStamps();
+			}
+		}
+	}
+
 	public void run(Module module, Map<String, String> params, IWorkflowContext ctx) {
+		validate(module);
+		run(module, createWorkflow(module, params), ctx);
+	}
+
+	/**
+	 * Parses and validates the given module once and runs it for each of the parameter
+	 * maps, each time on a new workflow instance with a new context. The module is taken
+	 * from the shared resource set, see {@link #run(List, Map)}. With more than one thread
+	 * the workflows run in parallel, but they are instantiated one after another.
+	 * 
+	 * @return one result per parameter map, in the same order. A failing run doesn't stop
+	 *         the others but records its exception.
+	 */
+	public List<Mwe2RunResult> runSweep(String moduleName, List<Map<String, String>> paramMaps, int threads) {
+		final Module module;
+		synchronized (this) {
+			module = findSharedModule(moduleName);
+			validate(module);
+		}
+		List<Mwe2RunResult> results = Lists.newArrayListWithCapacity(paramMaps.size());
+		for (Map<String, String> params : paramMaps) {
+			results.add(new Mwe2RunResult(params, ctxProvider.get()));
+		}
+		if (threads <= 1 || results.size() <= 1) {
+			for (Mwe2RunResult result : results) {
+				execute(module, result);
+			}
+			return results;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, results.size()));
+		try {
+			List<Future<?>> futures = Lists.newArrayListWithCapacity(results.size());
+			for (final Mwe2RunResult result : results) {
+				futures.add(executor.submit(new Runnable() {
+					public void run() {
+						execute(module, result);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while running module " + module.getCanonicalName(), e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException("Problems running module " + module.getCanonicalName() + ": "
+					+ e.getCause().getMessage(), e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+		return results;
+	}
+
+	private void execute(Module module, Mwe2RunResult result) {
+		try {
+			IWorkflow workflow;
+			// the engine reads the shared model, which is not thread-safe
+			synchronized (this) {
+				workflow = createWorkflow(module, result.getParams());
+			}
+			run(module, workflow, result.getContext());
+		} catch (RuntimeException e) {
+			result.setException(e);
+		}
+	}
+
+	protected void validate(Module module) {
 		if (module == null) {
 			throw new IllegalArgumentException("No module provided ");
 		}
@@ -88,6 +179,9 @@ public class Mwe2Runner {
 		if (!module.eResource().getErrors().isEmpty()) {
 			throw new IllegalStateException(module.eResource().getErrors().toString());
 		}
+	}
+
+	protected IWorkflow createWorkflow(Module module, Map<String, String> params) {
 		Map<QualifiedName, Object> actualParams = getRealParams(params);
 		Object object = null;
 		try {
@@ -99,8 +193,12 @@ public class Mwe2Runner {
 			throw new IllegalArgumentException("The root element must be of type IWorkflow but was '"
 					+ object.getClass() + "'.");
 		}
+		return (IWorkflow) object;
+	}
+
+	private void run(Module module, IWorkflow workflow, IWorkflowContext ctx) {
 		try {
-			((IWorkflow) object).run(ctx);
+			workflow.run(ctx);
 		} catch (RuntimeException e) {
 			throw new RuntimeException("Problems running workflow " + module.getCanonicalName() + ": " + e.getMessage(), e);
 		}
@@ -116,7 +214,10 @@ public class Mwe2Runner {
 
 	protected Module findModule(String moduleName) {
 		System.err.println(moduleName);
-		ResourceSet resourceSet = getConfiguredResourceSet();
+		return findModule(moduleName, getConfiguredResourceSet());
+	}
+
+	protected Module findModule(String moduleName, ResourceSet resourceSet) {
 		IResourceDescriptions descriptions = initializer.getDescriptions(resourceSet);
 		for (IResourceDescription desc : descriptions.getAllResourceDescriptions()) {
 			Iterable<IEObjectDescription> iterable = desc.getExportedObjects(Mwe2Package.Literals.MODULE,
@@ -128,6 +229,108 @@ public class Mwe2Runner {
 		return null;
 	}
 
+	protected Module loadModule(URI uri, ResourceSet resourceSet) {
+		Resource resource = resourceSet.getResource(uri, true);
+		if (resource != null && !resource.getContents().isEmpty()) {
+			EObject eObject = resource.getContents().get(0);
+			if (eObject instanceof Module) {
+				return (Module) eObject;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Looks up a module in the shared resource set, which is created on demand and
+	 * replaced if one of its files has changed. A module name that is not known yet,
+	 * e.g. because the module has been added after the class path has been scanned, is
+	 * looked up in a new resource set, which replaces the shared one only if the module
+	 * is found there.
+	 */
+	protected Module findSharedModule(String moduleName) {
+		if (sharedResourceSet != null && hasChangedFiles()) {
+			discardSharedResourceSet();
+		}
+		Module module = null;
+		if (sharedResourceSet != null) {
+			module = lookupModule(moduleName, sharedResourceSet);
+		}
+		if (module == null && (sharedResourceSet == null || !moduleName.contains("/"))) {
+			ResourceSet resourceSet = getConfiguredResourceSet();
+			module = lookupModule(moduleName, resourceSet);
+			if (module != null) {
+				discardSharedResourceSet();
+				sharedResourceSet = resourceSet;
+			}
+		}
+		if (module == null) {
+			throw new IllegalStateException("Couldn't find module " + moduleName);
+		}
+		recordTimeStamps();
+		return module;
+	}
+
+	private Module lookupModule(String moduleName, ResourceSet resourceSet) {
+		Module module;
+		if (moduleName.contains("/")) {
+			URI uri = URI.createURI(moduleName);
+			try {
+				module = loadModule(uri, resourceSet);
+			} catch (RuntimeException e) {
+				// don't keep a resource that failed to load
+				Resource resource = resourceSet.getResource(uri, false);
+				if (resource != null) {
+					resourceSet.getResources().remove(resource);
+				}
+				throw e;
+			}
+		} else {
+			module = findModule(moduleName, resourceSet);
+		}
+		if (module != null) {
+			EcoreUtil.resolveAll(module);
+		}
+		return module;
+	}
+
+	/**
+	 * Drops all modules parsed by {@link #run(List, Map)}, so they are read again on the
+	 * next call.
+	 */
+	public synchronized void discardSharedResourceSet() {
+		sharedResourceSet = null;
+		timeStamps.clear();
+	}
+
+	protected boolean hasChangedFiles() {
+		for (Map.Entry<URI, Long> entry : timeStamps.entrySet()) {
+			Long current = getTimeStamp(sharedResourceSet, entry.getKey());
+			if (current == null ? entry.getValue() != null : !current.equals(entry.getValue())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void recordTimeStamps() {
+		if (sharedResourceSet == null) {
+			return;
+		}
+		for (Resource resource : sharedResourceSet.getResources()) {
+			URI uri = resource.getURI();
+			if (resource.isLoaded() && !timeStamps.containsKey(uri)) {
+				timeStamps.put(uri, getTimeStamp(sharedResourceSet, uri));
+			}
+		}
+	}
+
+	protected Long getTimeStamp(ResourceSet resourceSet, URI uri) {
+		Map<String, ?> attributes = resourceSet.getURIConverter().getAttributes(uri,
+				Collections.singletonMap(URIConverter.OPTION_REQUESTED_ATTRIBUTES,
+						Collections.singleton(URIConverter.ATTRIBUTE_TIME_STAMP)));
+		return (Long) attributes.get(URIConverter.ATTRIBUTE_TIME_STAMP);
+	}
+
 	protected ResourceSet getConfiguredResourceSet() {
 		ResourceSet resourceSet = initializer.getInitializedResourceSet(getPathes(), new UriFilter() {
 			public boolean matches(URI uri) {
@@ -12,11 +12,18 @@ package org.eclipse.emf.mwe2.runtime.workflow;
 import java.util.ArrayList;
 import java.util.List;
 
-
+/**
+ * Invokes its children in order. Children whose preInvoke has succeeded are
+ * guaranteed to get their postInvoke, even if another child fails. Further
+ * failures during the cleanup are added as suppressed exceptions to the first
+ * one.
+ */
 public abstract class AbstractCompositeWorkflowComponent implements
 		IWorkflowComponent {
 	private List<IWorkflowComponent> children = new ArrayList<IWorkflowComponent>();
 	
+	private List<IWorkflowComponent> preInvoked;
+	
 	protected List<IWorkflowComponent> getChildren() {
 		return children;
 	}
@@ -27,23 +34,61 @@ public abstract class AbstractCompositeWorkflowComponent implements
 
 	@Override
 	public void preInvoke() {
+		List<IWorkflowComponent> succeeded = new ArrayList<IWorkflowComponent>(getChildren().size());
+		preInvoked = null;
 		for (IWorkflowComponent component : getChildren()) {
-			component.preInvoke();
+			try {
+				component.preInvoke();
+			} catch (RuntimeException | Error e) {
+				// our own postInvoke won't be called
+				postInvoke(succeeded, e);
+				throw e;
+			}
+			succeeded.add(component);
 		}
+		preInvoked = succeeded;
 	}
 
 	@Override
 	public void invoke(IWorkflowContext ctx) {
 		for (IWorkflowComponent component : getChildren()) {
+			if (isCanceled(ctx))
+				return;
 			component.invoke(ctx);
 		}
 	}
 
 	@Override
 	public void postInvoke() {
-		for (IWorkflowComponent component : getChildren()) {
-			component.postInvoke();
+		List<IWorkflowComponent> components = preInvoked != null ? preInvoked : getChildren();
+		preInvoked = null;
+		Throwable failure = postInvoke(components, null);
+		if (failure instanceof RuntimeException)
+			throw (RuntimeException) failure;
+		if (failure instanceof Error)
+			throw (Error) failure;
+	}
+
+	/**
+	 * Calls postInvoke on all components and returns the first exception, with
+	 * the later ones suppressed.
+	 */
+	private Throwable postInvoke(List<IWorkflowComponent> components, Throwable failure) {
+		for (IWorkflowComponent component : components) {
+			try {
+				component.postInvoke();
+			} catch (RuntimeException | Error e) {
+				if (failure == null)
+					failure = e;
+				else
+					failure.addSuppressed(e);
+			}
 		}
+		return failure;
+	}
+
+	protected boolean isCanceled(IWorkflowContext ctx) {
+		return ctx instanceof ICancelableWorkflowContext && ((ICancelableWorkflowContext) ctx).isCanceled();
 	}
 
 }
@@ -0,0 +1,25 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe2.runtime.workflow;
+
+public class CancelableWorkflowContextImpl extends WorkflowContextImpl implements ICancelableWorkflowContext {
+	// usually canceled from another thread
+	private volatile boolean canceled;
+
+	@Override
+	public boolean isCanceled() {
+		return canceled;
+	}
+
+	@Override
+	public void cancel() {
+		canceled = true;
+	}
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe2.runtime.workflow;
+
+/**
+ * Invokes its children only if the condition holds. The condition is either
+ * given as a property or read from a slot when the component is invoked; the
+ * slot has to contain a {@link Boolean} or a string. preInvoke and postInvoke
+ * are passed to the children in any case.
+ * 
+ * <pre>
+ * component = ConditionalWorkflowComponent {
+ * 	conditionSlot = "generateDocs"
+ * 	component = DocGenerator {}
+ * }
+ * </pre>
+ */
+public class ConditionalWorkflowComponent extends AbstractCompositeWorkflowComponent {
+
+	private boolean condition;
+
+	private String conditionSlot;
+
+	public void setCondition(boolean condition) {
+		this.condition = condition;
+	}
+
+	/**
+	 * Takes precedence over {@link #setCondition(boolean)}. An empty slot
+	 * counts as <code>false</code>.
+	 */
+	public void setConditionSlot(String conditionSlot) {
+		this.conditionSlot = conditionSlot;
+	}
+
+	@Override
+	public void invoke(IWorkflowContext ctx) {
+		if (evaluate(ctx))
+			super.invoke(ctx);
+	}
+
+	protected boolean evaluate(IWorkflowContext ctx) {
+		if (conditionSlot == null)
+			return condition;
+		Object value = ctx.get(conditionSlot);
+		if (value == null)
+			return false;
+		if (value instanceof Boolean)
+			return (Boolean) value;
+		if (value instanceof String)
+			return Boolean.parseBoolean((String) value);
+		throw new IllegalStateException("The slot '" + conditionSlot + "' must contain a Boolean or a String but was "
+				+ value.getClass().getName());
+	}
+
+}
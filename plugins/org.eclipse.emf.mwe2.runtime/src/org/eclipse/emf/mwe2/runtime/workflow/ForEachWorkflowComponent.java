@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe2.runtime.workflow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.emf.mwe2.runtime.Mandatory;
+
+/**
+ * Invokes its children once for each element of a collection slot. The current
+ * element is put into the element slot, which gets back its previous value
+ * afterwards. preInvoke and postInvoke are passed to the children once, not per
+ * element.
+ * 
+ * <pre>
+ * component = ForEachWorkflowComponent {
+ * 	collectionSlot = "models"
+ * 	elementSlot = "model"
+ * 	component = Generator { modelSlot = "model" }
+ * }
+ * </pre>
+ */
+public class ForEachWorkflowComponent extends AbstractCompositeWorkflowComponent {
+
+	private String collectionSlot;
+
+	private String elementSlot;
+
+	/**
+	 * The slot may contain an {@link Iterable} or an array. An empty slot is
+	 * treated like an empty collection.
+	 */
+	@Mandatory
+	public void setCollectionSlot(String collectionSlot) {
+		this.collectionSlot = collectionSlot;
+	}
+
+	@Mandatory
+	public void setElementSlot(String elementSlot) {
+		this.elementSlot = elementSlot;
+	}
+
+	@Override
+	public void invoke(IWorkflowContext ctx) {
+		if (collectionSlot == null || elementSlot == null)
+			throw new IllegalStateException("Both collectionSlot and elementSlot must be set.");
+		// children may change the collection
+		List<?> elements = getElements(ctx.get(collectionSlot));
+		Object previous = ctx.get(elementSlot);
+		try {
+			for (Object element : elements) {
+				if (isCanceled(ctx))
+					return;
+				ctx.put(elementSlot, element);
+				super.invoke(ctx);
+			}
+		} finally {
+			ctx.put(elementSlot, previous);
+		}
+	}
+
+	private List<?> getElements(Object value) {
+		List<Object> result = new ArrayList<Object>();
+		if (value instanceof Iterable<?>) {
+			for (Object element : (Iterable<?>) value)
+				result.add(element);
+		} else if (value instanceof Object[]) {
+			result.addAll(Arrays.asList((Object[]) value));
+		} else if (value != null) {
+			throw new IllegalStateException("The slot '" + collectionSlot
+					+ "' must contain an Iterable or an array but was " + value.getClass().getName());
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,19 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe2.runtime.workflow;
+
+/**
+ * A context that allows to cancel a running workflow. Composite components
+ * don't invoke further children once the context has been canceled.
+ */
+public interface ICancelableWorkflowContext extends IWorkflowContext {
+	public boolean isCanceled();
+	public void cancel();
+}
@@ -18,9 +18,18 @@ public class Workflow extends AbstractCompositeWorkflowComponent implements IWor
 	@Override
 	public void run(IWorkflowContext context) {
 		this.preInvoke();
-		this.invoke(context);
+		try {
+			this.invoke(context);
+		} catch (RuntimeException | Error e) {
+			try {
+				this.postInvoke();
+			} catch (RuntimeException | Error e2) {
+				e.addSuppressed(e2);
+			}
+			throw e;
+		}
 		this.postInvoke();
-		logger.info("Done.");
+		logger.info(isCanceled(context) ? "Canceled." : "Done.");
 	}
 	
 	public void addBean(Object x) {
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.mwe2.runtime.workflow.IWorkflowComponent;
+import org.eclipse.emf.mwe2.runtime.workflow.IWorkflowContext;
+
+/**
+ * A workflow component that does nothing but store its configuration, used by the
+ * synthetic workflows.
+ */
+public class BenchmarkComponent implements IWorkflowComponent {
+
+	private String name;
+
+	private final List<String> values = new ArrayList<String>();
+
+	private BenchmarkComponent child;
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public List<String> getValues() {
+		return values;
+	}
+
+	public void addValue(String value) {
+		values.add(value);
+	}
+
+	public BenchmarkComponent getChild() {
+		return child;
+	}
+
+	public void setChild(BenchmarkComponent child) {
+		this.child = child;
+	}
+
+	public void preInvoke() {
+	}
+
+	public void invoke(IWorkflowContext ctx) {
+		ctx.put(name, values);
+	}
+
+	public void postInvoke() {
+	}
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.benchmarks;
+
+import java.util.Arrays;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and writes the results as JMH JSON, which is the format of
+ * <code>baseline/baseline.json</code>.
+ * <p>
+ * Usage: <code>java -jar benchmarks.jar [results.json] [JMH options]</code>, e.g.
+ * <code>java -jar benchmarks.jar current.json WorkflowParser -f 1</code> to run only
+ * the parser benchmarks. Without a file name the results are written to
+ * <code>target/benchmark-results.json</code>.
+ */
+public class BenchmarkMain {
+
+	public static void main(String[] args) throws Exception {
+		String resultFile = "target/benchmark-results.json";
+		String[] jmhArgs = args;
+		if (args.length > 0 && args[0].endsWith(".json")) {
+			resultFile = args[0];
+			jmhArgs = Arrays.copyOfRange(args, 1, args.length);
+		}
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(jmhArgs))
+				.resultFormat(ResultFormatType.JSON)
+				.result(resultFile)
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.mwe.internal.core.ast.util.Injector;
+import org.eclipse.emf.mwe.internal.core.ast.util.InjectorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookup of the reflective property injectors used when MWE1 workflows are
+ * instantiated. The parameter selects which lookup strategy matches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InjectorFactoryBenchmark {
+
+	/**
+	 * <code>value</code> is found via an adder, <code>values</code> via a list getter,
+	 * <code>name</code> via a setter and <code>unknown</code> not at all.
+	 */
+	@Param({ "value", "values", "name", "unknown" })
+	public String property;
+
+	@Benchmark
+	public Injector getInjector() {
+		return InjectorFactory.getInjector(BenchmarkComponent.class, property);
+	}
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.mwe.core.issues.Issues;
+import org.eclipse.emf.mwe.core.issues.IssuesImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Collecting and querying issues, as done by every workflow component during
+ * checkConfiguration and invoke.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IssuesBenchmark {
+
+	@Param({ "10", "1000" })
+	public int issueCount;
+
+	@Benchmark
+	public void addAndQuery(Blackhole blackhole) {
+		Issues issues = new IssuesImpl();
+		for (int i = 0; i < issueCount; i++) {
+			issues.addInfo("info", this);
+			issues.addWarning("warning", this);
+			if (i % 10 == 0) {
+				issues.addError("error", this);
+			}
+			// components typically check for errors after each step
+			blackhole.consume(issues.hasErrors());
+		}
+		blackhole.consume(issues.getErrors());
+		blackhole.consume(issues.getWarnings());
+		blackhole.consume(issues.getIssues());
+	}
+}
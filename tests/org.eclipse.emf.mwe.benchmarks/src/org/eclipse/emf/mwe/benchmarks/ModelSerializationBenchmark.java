@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.benchmarks;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.mwe.core.WorkflowContext;
+import org.eclipse.emf.mwe.core.WorkflowContextDefaultImpl;
+import org.eclipse.emf.mwe.core.issues.IssuesImpl;
+import org.eclipse.emf.mwe.core.monitor.NullProgressMonitor;
+import org.eclipse.emf.mwe.utils.Reader;
+import org.eclipse.emf.mwe.utils.Writer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writing and reading a model of about <code>objects</code> objects with the
+ * Writer and Reader components, in XMI and in EMF's binary format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelSerializationBenchmark {
+
+	private static final int ATTRIBUTES_PER_CLASS = 9;
+
+	@Param({ "xmi", "binary" })
+	public String format;
+
+	@Param({ "100000" })
+	public int objects;
+
+	private EPackage model;
+
+	private File file;
+
+	@Setup
+	public void setUp() throws Exception {
+		model = createModel(objects);
+		file = File.createTempFile("model", ".ecore");
+		write();
+	}
+
+	@TearDown
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Benchmark
+	public WorkflowContext write() {
+		Writer writer = new Writer();
+		writer.setModelSlot("model");
+		writer.setUri(file.toURI().toString());
+		writer.setResourceSet(new ResourceSetImpl());
+		writer.setUseBinary("binary".equals(format));
+		WorkflowContext ctx = new WorkflowContextDefaultImpl();
+		ctx.set("model", model);
+		writer.invoke(ctx, new NullProgressMonitor(), new IssuesImpl());
+		return ctx;
+	}
+
+	@Benchmark
+	public Object read() {
+		Reader reader = new Reader();
+		reader.setModelSlot("model");
+		reader.setUri(file.toURI().toString());
+		reader.setResourceSet(new ResourceSetImpl());
+		reader.setUseBinary("binary".equals(format));
+		reader.setMakeEPackagesGlobal(false);
+		WorkflowContext ctx = new WorkflowContextDefaultImpl();
+		reader.invoke(ctx, new NullProgressMonitor(), new IssuesImpl());
+		return ctx.get("model");
+	}
+
+	/**
+	 * A package of classes with a couple of attributes each, which refer to
+	 * their super class and to Ecore's data types.
+	 */
+	static EPackage createModel(int objects) {
+		EPackage result = EcoreFactory.eINSTANCE.createEPackage();
+		result.setName("synthetic");
+		result.setNsPrefix("synthetic");
+		result.setNsURI("http://www.eclipse.org/mwe/benchmarks/synthetic");
+		EClass previous = null;
+		for (int i = 0; i < objects / (ATTRIBUTES_PER_CLASS + 1); i++) {
+			EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+			eClass.setName("Class" + i);
+			if (previous != null) {
+				eClass.getESuperTypes().add(previous);
+			}
+			for (int j = 0; j < ATTRIBUTES_PER_CLASS; j++) {
+				EAttribute attribute = EcoreFactory.eINSTANCE.createEAttribute();
+				attribute.setName("attribute" + i + "_" + j);
+				attribute.setEType(j % 2 == 0 ? EcorePackage.Literals.ESTRING : EcorePackage.Literals.EINT);
+				eClass.getEStructuralFeatures().add(attribute);
+			}
+			result.getEClassifiers().add(eClass);
+			previous = eClass;
+		}
+		return result;
+	}
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.mwe2.language.Mwe2StandaloneSetup;
+import org.eclipse.emf.mwe2.language.factory.Mwe2ExecutionEngine;
+import org.eclipse.emf.mwe2.language.mwe2.Module;
+import org.eclipse.emf.mwe2.runtime.workflow.IWorkflow;
+import org.eclipse.emf.mwe2.runtime.workflow.IWorkflowContext;
+import org.eclipse.emf.mwe2.runtime.workflow.WorkflowContextImpl;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Injector;
+
+/**
+ * Loading, linking and executing MWE2 modules. The types are resolved from the
+ * classpath, so no Eclipse workspace is involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+// Guice 3 generates classes via reflective access to ClassLoader.defineClass
+@Fork(value = 1, jvmArgsAppend = { "-XX:+IgnoreUnrecognizedVMOptions", "--add-opens=java.base/java.lang=ALL-UNNAMED" })
+public class Mwe2ExecutionEngineBenchmark {
+
+	@Param({ "10", "100" })
+	public int components;
+
+	private Injector injector;
+
+	private byte[] content;
+
+	private Mwe2ExecutionEngine engine;
+
+	private Module module;
+
+	@Setup
+	public void setUp() throws Exception {
+		injector = new Mwe2StandaloneSetup().createInjectorAndDoEMFRegistration();
+		engine = injector.getInstance(Mwe2ExecutionEngine.class);
+		content = SyntheticWorkflows.mwe2Module(components).getBytes("UTF-8");
+		module = load();
+		if (!module.eResource().getErrors().isEmpty())
+			throw new IllegalStateException(module.eResource().getErrors().toString());
+	}
+
+	/**
+	 * Parses and links the module in a fresh resource set.
+	 */
+	@Benchmark
+	public Module load() throws IOException {
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		resourceSet.setClasspathURIContext(getClass().getClassLoader());
+		Resource resource = resourceSet.createResource(URI.createURI("synthetic.mwe2"));
+		resource.load(new ByteArrayInputStream(content), null);
+		Module result = (Module) resource.getContents().get(0);
+		EcoreUtil.resolveAll(result);
+		return result;
+	}
+
+	/**
+	 * Instantiates and runs the already linked module.
+	 */
+	@Benchmark
+	public IWorkflowContext createAndRun() {
+		IWorkflow workflow = (IWorkflow) engine.create(module, Collections.<QualifiedName, Object> emptyMap());
+		IWorkflowContext ctx = new WorkflowContextImpl();
+		workflow.run(ctx);
+		return ctx;
+	}
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.benchmarks;
+
+/**
+ * Generates workflow sources of a given size in memory, so the benchmarks do not
+ * depend on any files or an Eclipse installation.
+ */
+public class SyntheticWorkflows {
+
+	private SyntheticWorkflows() {
+	}
+
+	/**
+	 * An MWE1 workflow with <code>components</code> components. Each component has
+	 * a couple of parameters that refer to a chain of workflow properties.
+	 */
+	public static String mwe1Workflow(int components) {
+		StringBuilder result = new StringBuilder();
+		result.append("<?xml version=\"1.0\"?>\n");
+		result.append("<workflow>\n");
+		result.append("  <property name=\"base\" value=\"src-gen\"/>\n");
+		result.append("  <property name=\"project\" value=\"${base}/project\"/>\n");
+		result.append("  <property name=\"model\" value=\"${project}/model\"/>\n");
+		for (int i = 0; i < components; i++) {
+			result.append("  <component class=\"").append(BenchmarkComponent.class.getName()).append("\" id=\"c")
+					.append(i).append("\" name=\"${model}/c").append(i).append("\">\n");
+			result.append("    <value value=\"${project}/value").append(i).append("\"/>\n");
+			result.append("    <value value=\"plain").append(i).append("\"/>\n");
+			result.append("  </component>\n");
+		}
+		result.append("</workflow>\n");
+		return result.toString();
+	}
+
+	/**
+	 * An MWE2 module with a workflow of <code>components</code> components, each of
+	 * them with a nested child component and a couple of assignments.
+	 */
+	public static String mwe2Module(int components) {
+		StringBuilder result = new StringBuilder();
+		result.append("module benchmark.Synthetic").append(components).append("\n\n");
+		result.append("import org.eclipse.emf.mwe2.runtime.workflow.Workflow\n");
+		result.append("import ").append(BenchmarkComponent.class.getName()).append("\n\n");
+		result.append("var base = 'src-gen'\n");
+		result.append("var project = '${base}/project'\n");
+		result.append("var model = '${project}/model'\n\n");
+		result.append("Workflow {\n");
+		for (int i = 0; i < components; i++) {
+			result.append("  component = BenchmarkComponent : c").append(i).append(" {\n");
+			result.append("    name = '${model}/c").append(i).append("'\n");
+			result.append("    value = project\n");
+			result.append("    value = 'plain").append(i).append("'\n");
+			result.append("    child = BenchmarkComponent {\n");
+			result.append("      name = 'child").append(i).append("'\n");
+			result.append("    }\n");
+			result.append("  }\n");
+		}
+		result.append("}\n");
+		return result.toString();
+	}
+}
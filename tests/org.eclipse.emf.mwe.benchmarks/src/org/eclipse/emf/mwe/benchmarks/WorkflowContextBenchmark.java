@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.mwe.core.WorkflowContext;
+import org.eclipse.emf.mwe.core.WorkflowContextDefaultImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Slot access on the MWE1 workflow context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkflowContextBenchmark {
+
+	@Param({ "10", "100" })
+	public int slots;
+
+	private String[] slotNames;
+
+	@Setup
+	public void setUp() {
+		slotNames = new String[slots];
+		for (int i = 0; i < slots; i++) {
+			slotNames[i] = "model_" + i;
+		}
+	}
+
+	@Benchmark
+	public void setAndGet(Blackhole blackhole) {
+		WorkflowContext ctx = new WorkflowContextDefaultImpl();
+		for (String slotName : slotNames) {
+			ctx.set(slotName, slotName);
+		}
+		for (String slotName : slotNames) {
+			blackhole.consume(ctx.get(slotName));
+		}
+		blackhole.consume(ctx.getSlotNames());
+	}
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.mwe.core.issues.Issues;
+import org.eclipse.emf.mwe.core.issues.IssuesImpl;
+import org.eclipse.emf.mwe.internal.core.ast.AbstractASTBase;
+import org.eclipse.emf.mwe.internal.core.ast.parser.WorkflowParser;
+import org.eclipse.emf.mwe.internal.core.ast.util.WorkflowFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing and property resolution of MWE1 workflow files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkflowParserBenchmark {
+
+	@Param({ "10", "200" })
+	public int components;
+
+	private byte[] content;
+
+	private WorkflowFactory factory;
+
+	@Setup
+	public void setUp() throws Exception {
+		content = SyntheticWorkflows.mwe1Workflow(components).getBytes("UTF-8");
+		factory = new WorkflowFactory();
+	}
+
+	@Benchmark
+	public AbstractASTBase parse() {
+		Issues issues = new IssuesImpl();
+		return new WorkflowParser().parse(new ByteArrayInputStream(content), "synthetic.mwe", issues);
+	}
+
+	@Benchmark
+	public AbstractASTBase parseAndInitialize() {
+		Issues issues = new IssuesImpl();
+		return factory.parseAndInitialize(new ByteArrayInputStream(content), "synthetic.mwe", issues,
+				new HashMap<String, String>());
+	}
+}
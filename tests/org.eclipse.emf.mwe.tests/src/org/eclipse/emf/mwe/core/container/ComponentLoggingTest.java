@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.core.container;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.spi.LoggingEvent;
+import org.eclipse.emf.mwe.core.WorkflowContext;
+import org.eclipse.emf.mwe.core.WorkflowContextDefaultImpl;
+import org.eclipse.emf.mwe.core.issues.Issues;
+import org.eclipse.emf.mwe.core.issues.IssuesImpl;
+import org.eclipse.emf.mwe.core.lib.AbstractWorkflowComponent2;
+import org.eclipse.emf.mwe.core.monitor.ProgressMonitor;
+import org.eclipse.emf.mwe.internal.core.util.ComponentPrinter;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ComponentLoggingTest extends Assert {
+
+	private static final int COMPONENTS = 100;
+
+	private final Logger logger = Logger.getLogger(CompositeComponent.class);
+
+	private Level originalLevel;
+
+	private CountingAppender appender;
+
+	@Before
+	public void setUp() {
+		originalLevel = logger.getLevel();
+		appender = new CountingAppender();
+		logger.addAppender(appender);
+	}
+
+	@After
+	public void tearDown() {
+		logger.removeAppender(appender);
+		logger.setLevel(originalLevel);
+	}
+
+	@Test public void testPrintedOncePerComponent() {
+		logger.setLevel(Level.INFO);
+		CompositeComponent root = createWorkflow();
+		root.checkConfiguration(new IssuesImpl());
+		for (int i = 0; i < 3; i++) {
+			root.invoke(new WorkflowContextDefaultImpl(), null, new IssuesImpl());
+		}
+		// the composite, the components of the root and those of the if
+		assertEquals(3 * (2 * COMPONENTS + 1), appender.messages.size());
+		assertEquals("LoggingLeaf(leaf0): message 0", appender.messages.get(0));
+		assertEquals(2 * COMPONENTS, LoggingLeaf.printed);
+		assertEquals(6 * COMPONENTS, LoggingLeaf.invoked);
+	}
+
+	@Test public void testReprintedAfterReconfiguration() {
+		logger.setLevel(Level.INFO);
+		CompositeComponent root = createWorkflow();
+		root.checkConfiguration(new IssuesImpl());
+		root.invoke(new WorkflowContextDefaultImpl(), null, new IssuesImpl());
+		((LoggingLeaf) root.getComponents().get(0)).setId("renamed");
+		root.checkConfiguration(new IssuesImpl());
+		root.invoke(new WorkflowContextDefaultImpl(), null, new IssuesImpl());
+		assertTrue(appender.messages.contains("LoggingLeaf(renamed): message 0"));
+		assertEquals(4 * COMPONENTS, LoggingLeaf.printed);
+	}
+
+	@Test public void testNotPrintedWithoutInfo() {
+		logger.setLevel(Level.WARN);
+		CompositeComponent root = createWorkflow();
+		root.checkConfiguration(new IssuesImpl());
+		root.invoke(new WorkflowContextDefaultImpl(), null, new IssuesImpl());
+		assertEquals(0, appender.messages.size());
+		assertEquals(0, LoggingLeaf.printed);
+		assertEquals(2 * COMPONENTS, LoggingLeaf.invoked);
+	}
+
+	@Test public void testContainerOfComponentsAddedToList() {
+		logger.setLevel(Level.INFO);
+		LoggingLeaf.invoked = 0;
+		CompositeComponent root = new CompositeComponent("root");
+		root.setResource("some/path/root.mwe");
+		LoggingLeaf added = new LoggingLeaf("added", 0);
+		LoggingLeaf inserted = new LoggingLeaf("inserted", 1);
+		LoggingLeaf replaced = new LoggingLeaf("replaced", 2);
+		root.getComponents().add(added);
+		root.getComponents().addAll(0, Collections.singletonList(inserted));
+		root.getComponents().set(1, replaced);
+		assertSame(root, inserted.getContainer());
+		assertSame(root, replaced.getContainer());
+		assertEquals("root.mwe", ComponentPrinter.getContainerName(replaced));
+		root.invoke(new WorkflowContextDefaultImpl(), null, new IssuesImpl());
+		assertEquals(2, LoggingLeaf.invoked);
+	}
+
+	private CompositeComponent createWorkflow() {
+		LoggingLeaf.printed = 0;
+		LoggingLeaf.invoked = 0;
+		CompositeComponent root = new CompositeComponent("root");
+		IfComponent ifComp = new IfComponent();
+		ifComp.setCond("true");
+		for (int i = 0; i < COMPONENTS; i++) {
+			root.addComponent(new LoggingLeaf("leaf" + i, i));
+			ifComp.addComponent(new LoggingLeaf("conditional" + i, i));
+		}
+		root.addComponent(ifComp);
+		return root;
+	}
+
+	private static class LoggingLeaf extends AbstractWorkflowComponent2 {
+
+		static int printed;
+
+		static int invoked;
+
+		private final int index;
+
+		LoggingLeaf(String id, int index) {
+			setId(id);
+			this.index = index;
+		}
+
+		@Override
+		public String getLogMessage() {
+			printed++;
+			return "message " + index;
+		}
+
+		@Override
+		protected void invokeInternal(WorkflowContext ctx, ProgressMonitor monitor, Issues issues) {
+			invoked++;
+		}
+	}
+
+	private static class CountingAppender extends AppenderSkeleton {
+
+		private final List<String> messages = new ArrayList<String>();
+
+		@Override
+		protected void append(LoggingEvent event) {
+			messages.add(String.valueOf(event.getMessage()));
+		}
+
+		@Override
+		public boolean requiresLayout() {
+			return false;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
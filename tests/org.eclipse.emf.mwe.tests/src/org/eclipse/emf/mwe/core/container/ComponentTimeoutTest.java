@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.core.container;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.mwe.core.WorkflowContext;
+import org.eclipse.emf.mwe.core.WorkflowContextDefaultImpl;
+import org.eclipse.emf.mwe.core.WorkflowInterruptedException;
+import org.eclipse.emf.mwe.core.issues.Issues;
+import org.eclipse.emf.mwe.core.issues.IssuesImpl;
+import org.eclipse.emf.mwe.core.lib.AbstractWorkflowComponent2;
+import org.eclipse.emf.mwe.core.monitor.NullProgressMonitor;
+import org.eclipse.emf.mwe.core.monitor.ProgressMonitor;
+import org.eclipse.emf.mwe.internal.core.ast.parser.Location;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ComponentTimeoutTest extends Assert {
+
+	private final List<String> invoked = new ArrayList<String>();
+
+	@After
+	public void tearDown() {
+		assertFalse("Interrupt leaked to the caller", Thread.interrupted());
+	}
+
+	@Test public void testTimeoutInterruptsComponent() {
+		CompositeComponent root = new CompositeComponent("root");
+		Sleeper sleeper = new Sleeper("sleeper", 60000);
+		sleeper.setTimeout(100);
+		sleeper.setLocation(new Location(12, 3, "test.mwe"));
+		root.addComponent(sleeper);
+		root.addComponent(new Sleeper("next", 0));
+		long start = System.currentTimeMillis();
+		try {
+			root.invoke(new WorkflowContextDefaultImpl(), new NullProgressMonitor(), new IssuesImpl());
+			fail("Expected a timeout");
+		}
+		catch (WorkflowInterruptedException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("in test.mwe:12"));
+			assertTrue(e.getMessage(), e.getMessage().contains("100ms"));
+		}
+		assertTrue(System.currentTimeMillis() - start < 10000);
+		assertEquals("[sleeper]", invoked.toString());
+		assertTrue(sleeper.interrupted);
+	}
+
+	@Test public void testNoTimeoutForFastComponents() throws Exception {
+		CompositeComponent root = new CompositeComponent("root");
+		for (int i = 0; i < 20; i++) {
+			Sleeper sleeper = new Sleeper("sleeper" + i, 1);
+			sleeper.setTimeout(5000);
+			root.addComponent(sleeper);
+		}
+		root.invoke(new WorkflowContextDefaultImpl(), new NullProgressMonitor(), new IssuesImpl());
+		assertEquals(20, invoked.size());
+		// an expired watchdog must not hit the thread later on
+		Thread.sleep(100);
+	}
+
+	@Test public void testTimeoutInConditionalComponent() {
+		IfComponent ifComp = new IfComponent();
+		ifComp.setCond("true");
+		Sleeper sleeper = new Sleeper("then", 60000);
+		sleeper.setTimeout(100);
+		ifComp.addComponent(sleeper);
+		CompositeComponent elseComp = new CompositeComponent("else");
+		Sleeper elseSleeper = new Sleeper("else", 60000);
+		elseSleeper.setTimeout(100);
+		elseComp.addComponent(elseSleeper);
+		ifComp.setElse(elseComp);
+		try {
+			ifComp.invoke(new WorkflowContextDefaultImpl(), new NullProgressMonitor(), new IssuesImpl());
+			fail("Expected a timeout");
+		}
+		catch (WorkflowInterruptedException e) {
+			// expected
+		}
+		ifComp.setCond("false");
+		try {
+			ifComp.invoke(new WorkflowContextDefaultImpl(), new NullProgressMonitor(), new IssuesImpl());
+			fail("Expected a timeout");
+		}
+		catch (WorkflowInterruptedException e) {
+			// expected
+		}
+		assertEquals("[then, else]", invoked.toString());
+	}
+
+	@Test public void testCancelBetweenComponents() {
+		CompositeComponent root = new CompositeComponent("root");
+		IfComponent ifComp = new IfComponent();
+		ifComp.setCond("true");
+		ifComp.addComponent(new Sleeper("first", 0));
+		ifComp.addComponent(new Sleeper("second", 0));
+		root.addComponent(ifComp);
+		root.addComponent(new Sleeper("third", 0));
+		CancelingMonitor monitor = new CancelingMonitor("first");
+		root.invoke(new WorkflowContextDefaultImpl(), monitor, new IssuesImpl());
+		assertEquals("[first]", invoked.toString());
+	}
+
+	private class Sleeper extends AbstractWorkflowComponent2 {
+
+		private final String name;
+
+		private final long millis;
+
+		boolean interrupted;
+
+		Sleeper(String name, long millis) {
+			this.name = name;
+			this.millis = millis;
+		}
+
+		@Override
+		protected void invokeInternal(WorkflowContext ctx, ProgressMonitor monitor, Issues issues) {
+			invoked.add(name);
+			try {
+				Thread.sleep(millis);
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+				throw new WorkflowInterruptedException(e);
+			}
+		}
+
+		@Override
+		public String getComponentName() {
+			return name;
+		}
+	}
+
+	private class CancelingMonitor extends NullProgressMonitor {
+
+		private final String cancelAfter;
+
+		private boolean canceled;
+
+		CancelingMonitor(String cancelAfter) {
+			this.cancelAfter = cancelAfter;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return canceled;
+		}
+
+		@Override
+		public void setCanceled(boolean value) {
+			canceled = value;
+		}
+
+		@Override
+		public void done() {
+			if (invoked.contains(cancelAfter)) {
+				setCanceled(true);
+			}
+		}
+	}
+}
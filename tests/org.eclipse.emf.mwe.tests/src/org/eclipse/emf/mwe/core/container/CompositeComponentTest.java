@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.core.container;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.emf.mwe.core.WorkflowComponent;
+import org.eclipse.emf.mwe.core.WorkflowComponentWithID;
+import org.eclipse.emf.mwe.core.WorkflowContext;
+import org.eclipse.emf.mwe.core.ao.AbstractWorkflowAdvice;
+import org.eclipse.emf.mwe.core.issues.Issues;
+import org.eclipse.emf.mwe.core.issues.IssuesImpl;
+import org.eclipse.emf.mwe.core.lib.AbstractWorkflowComponent2;
+import org.eclipse.emf.mwe.core.monitor.ProgressMonitor;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompositeComponentTest extends Assert {
+
+	private static final int CARTRIDGES = 50;
+
+	private static final int COMPONENTS_PER_CARTRIDGE = 100;
+
+	private static final int ADVICES = 3000;
+
+	private final List<String> woven = new ArrayList<String>();
+
+	@Test public void testWeavingManyAdvices() {
+		Random random = new Random(42);
+		CompositeComponent root = new CompositeComponent("root");
+		List<CompositeComponent> composites = new ArrayList<CompositeComponent>();
+		composites.add(root);
+		for (int i = 0; i < CARTRIDGES; i++) {
+			CompositeComponent cartridge = new CompositeComponent("cartridge" + i);
+			cartridge.setId("cartridge" + i);
+			CompositeComponent nested = new CompositeComponent("nested" + i);
+			nested.setId("nested" + (i % 10));
+			for (int j = 0; j < COMPONENTS_PER_CARTRIDGE; j++) {
+				// some IDs are used several times, some components have none
+				Leaf leaf = new Leaf();
+				leaf.setId(j % 17 == 0 ? null : "component" + (i * COMPONENTS_PER_CARTRIDGE + j) % 4000);
+				(j % 2 == 0 ? cartridge : nested).addComponent(leaf);
+			}
+			cartridge.addComponent(nested);
+			root.addComponent(cartridge);
+			composites.add(cartridge);
+			composites.add(nested);
+		}
+		List<Advice> advices = new ArrayList<Advice>();
+		for (int i = 0; i < ADVICES; i++) {
+			Advice advice = new Advice("advice" + i);
+			advice.setAdviceTarget(random.nextInt(20) == 0 ? "nested" + random.nextInt(12)
+					: "component" + random.nextInt(5000));
+			composites.get(random.nextInt(composites.size())).addComponent(advice);
+			advices.add(advice);
+		}
+		List<String> expected = new ArrayList<String>();
+		int warnings = 0;
+		for (CompositeComponent composite : composites) {
+			for (WorkflowComponent component : new ArrayList<WorkflowComponent>(composite.getComponents())) {
+				if (component instanceof Advice) {
+					List<WorkflowComponent> hits = new ArrayList<WorkflowComponent>();
+					findByID(root, ((Advice) component).getAdviceTarget(), hits);
+					if (hits.size() != 1) {
+						warnings++;
+					}
+					for (WorkflowComponent hit : hits) {
+						expected.add(((Advice) component).name + "->" + System.identityHashCode(hit));
+					}
+				}
+			}
+		}
+
+		Issues issues = new IssuesImpl();
+		root.checkConfiguration(issues);
+		assertEquals(sorted(expected), sorted(woven));
+		assertEquals(warnings, issues.getWarnings().length);
+	}
+
+	@Test public void testWeavingSeesChangedTree() {
+		final CompositeComponent root = new CompositeComponent("root");
+		final CompositeComponent cartridge = new CompositeComponent("cartridge");
+		cartridge.setId("cartridge");
+		root.addComponent(cartridge);
+		Advice before = new Advice("before");
+		before.setAdviceTarget("added");
+		Advice adding = new Advice("adding") {
+			@Override
+			public void weave(WorkflowComponent component, Issues issues) {
+				Leaf leaf = new Leaf();
+				leaf.setId("added");
+				((CompositeComponent) component).getComponents().add(leaf);
+			}
+		};
+		adding.setAdviceTarget("cartridge");
+		Advice after = new Advice("after");
+		after.setAdviceTarget("added");
+		root.addComponent(before);
+		root.addComponent(adding);
+		root.addComponent(after);
+
+		Issues issues = new IssuesImpl();
+		root.checkConfiguration(issues);
+		assertEquals(1, issues.getWarnings().length);
+		assertEquals(1, woven.size());
+		assertTrue(woven.get(0), woven.get(0).startsWith("after->"));
+	}
+
+	@Test public void testWeavingSeesRenamedLeaf() {
+		CompositeComponent root = new CompositeComponent("root");
+		CompositeComponent cartridge = new CompositeComponent("cartridge");
+		Leaf leaf = new Leaf();
+		leaf.setId("old");
+		cartridge.addComponent(leaf);
+		root.addComponent(cartridge);
+		Advice renaming = new Advice("renaming") {
+			@Override
+			public void weave(WorkflowComponent component, Issues issues) {
+				super.weave(component, issues);
+				((Leaf) component).setId("new");
+			}
+		};
+		renaming.setAdviceTarget("old");
+		Advice renamed = new Advice("new");
+		renamed.setAdviceTarget("new");
+		Advice stale = new Advice("old");
+		stale.setAdviceTarget("old");
+		root.addComponent(renaming);
+		root.addComponent(renamed);
+		root.addComponent(stale);
+
+		Issues issues = new IssuesImpl();
+		root.checkConfiguration(issues);
+		String target = "->" + System.identityHashCode(leaf);
+		assertEquals(Arrays.asList("renaming" + target, "new" + target), woven);
+		assertEquals(1, issues.getWarnings().length);
+	}
+
+	@Test public void testWeavingSeesChangesThroughIteratorsAndViews() {
+		final CompositeComponent root = new CompositeComponent("root");
+		final CompositeComponent cartridge = new CompositeComponent("cartridge");
+		cartridge.setId("cartridge");
+		Leaf first = new Leaf();
+		first.setId("first");
+		Leaf second = new Leaf();
+		second.setId("second");
+		cartridge.addComponent(first);
+		cartridge.addComponent(second);
+		root.addComponent(cartridge);
+		Advice changing = new Advice("changing") {
+			@Override
+			public void weave(WorkflowComponent component, Issues issues) {
+				List<WorkflowComponent> components = ((CompositeComponent) component).getComponents();
+				Iterator<WorkflowComponent> iterator = components.iterator();
+				iterator.next();
+				iterator.remove();
+				components.subList(0, 1).clear();
+				Leaf added = new Leaf();
+				added.setId("added");
+				components.listIterator().add(added);
+			}
+		};
+		changing.setAdviceTarget("cartridge");
+		root.addComponent(changing);
+		for (String id : new String[] { "first", "second", "added" }) {
+			Advice advice = new Advice(id);
+			advice.setAdviceTarget(id);
+			root.addComponent(advice);
+		}
+
+		Issues issues = new IssuesImpl();
+		root.checkConfiguration(issues);
+		assertEquals(2, issues.getWarnings().length);
+		assertEquals(1, woven.size());
+		assertTrue(woven.get(0), woven.get(0).startsWith("added->"));
+	}
+
+	@Test public void testWeavingSeesAssignedComponentList() {
+		final Leaf leaf = new Leaf();
+		leaf.setId("leaf");
+		CompositeComponent cartridge = new CompositeComponent("cartridge") {
+			{
+				components = new ArrayList<WorkflowComponent>(Collections.singletonList(leaf));
+			}
+		};
+		CompositeComponent root = new CompositeComponent("root");
+		root.addComponent(cartridge);
+		Advice advice = new Advice("advice");
+		advice.setAdviceTarget("leaf");
+		root.addComponent(advice);
+
+		Issues issues = new IssuesImpl();
+		root.checkConfiguration(issues);
+		assertEquals(Arrays.asList("advice->" + System.identityHashCode(leaf)), woven);
+		assertEquals(0, issues.getWarnings().length);
+	}
+
+	private static void findByID(CompositeComponent composite, String id, List<WorkflowComponent> hits) {
+		for (WorkflowComponent component : composite.getComponents()) {
+			if (component instanceof WorkflowComponentWithID && id.equals(((WorkflowComponentWithID) component).getId())) {
+				hits.add(component);
+			}
+		}
+		for (WorkflowComponent component : composite.getComponents()) {
+			if (component instanceof CompositeComponent) {
+				findByID((CompositeComponent) component, id, hits);
+			}
+		}
+	}
+
+	private static List<String> sorted(List<String> list) {
+		List<String> result = new ArrayList<String>(list);
+		Collections.sort(result);
+		return result;
+	}
+
+	private static class Leaf extends AbstractWorkflowComponent2 {
+		@Override
+		protected void invokeInternal(WorkflowContext ctx, ProgressMonitor monitor, Issues issues) {
+		}
+	}
+
+	private class Advice extends AbstractWorkflowAdvice {
+
+		private final String name;
+
+		private Advice(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public void weave(WorkflowComponent component, Issues issues) {
+			woven.add(name + "->" + System.identityHashCode(component));
+		}
+	}
+}
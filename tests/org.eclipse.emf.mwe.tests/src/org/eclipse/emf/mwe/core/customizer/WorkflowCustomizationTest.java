@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.core.customizer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tools.ant.filters.StringInputStream;
+import org.eclipse.emf.mwe.core.issues.Issues;
+import org.eclipse.emf.mwe.core.issues.IssuesImpl;
+import org.eclipse.emf.mwe.internal.core.Workflow;
+import org.eclipse.emf.mwe.internal.core.ast.util.WorkflowFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import test.res.Component;
+import test.res.SubComponent;
+
+public class WorkflowCustomizationTest extends Assert {
+
+	private static final int THREADS = 8;
+
+	private static final int ITERATIONS = 200;
+
+	@After
+	public void tearDown() {
+		WorkflowCustomization.unregisterKeywordMapping("testKeyword");
+		for (int i = 0; i < 100; i++) {
+			WorkflowCustomization.unregisterKeywordMapping("global" + i);
+		}
+	}
+
+	@Test public void testGlobalMapping() {
+		WorkflowCustomization.registerKeywordMapping("testKeyword", Component.class.getName());
+		assertEquals(Component.class, WorkflowCustomization.getKeywordMapping("testKeyword"));
+		WorkflowCustomization.registerKeywordMapping("testKeyword", "does.not.Exist");
+		assertEquals(Component.class, WorkflowCustomization.getKeywordMapping("testKeyword"));
+		WorkflowCustomization.unregisterKeywordMapping("testKeyword");
+		assertNull(WorkflowCustomization.getKeywordMapping("testKeyword"));
+	}
+
+	@Test public void testScopes() {
+		WorkflowCustomization.registerKeywordMapping("testKeyword", Component.class);
+		WorkflowCustomization.Scope outer = WorkflowCustomization.open();
+		try {
+			assertEquals(Component.class, WorkflowCustomization.getKeywordMapping("testKeyword"));
+			// registrations go to the innermost scope
+			WorkflowCustomization.registerKeywordMapping("testKeyword", SubComponent.class);
+			assertEquals(SubComponent.class, WorkflowCustomization.getKeywordMapping("testKeyword"));
+			WorkflowCustomization.Scope inner = WorkflowCustomization.open();
+			inner.registerKeywordMapping("other", Component.class);
+			assertEquals(SubComponent.class, WorkflowCustomization.getKeywordMapping("testKeyword"));
+			assertEquals(Component.class, WorkflowCustomization.getKeywordMapping("other"));
+			inner.close();
+			assertNull(WorkflowCustomization.getKeywordMapping("other"));
+			assertEquals(SubComponent.class, WorkflowCustomization.getKeywordMapping("testKeyword"));
+		}
+		finally {
+			outer.close();
+		}
+		assertEquals(Component.class, WorkflowCustomization.getKeywordMapping("testKeyword"));
+	}
+
+	@Test public void testUnregisterHidesOuterMappings() {
+		WorkflowCustomization.registerKeywordMapping("testKeyword", Component.class);
+		WorkflowCustomization.Scope outer = WorkflowCustomization.open();
+		try {
+			WorkflowCustomization.registerKeywordMapping("other", Component.class);
+			WorkflowCustomization.Scope inner = WorkflowCustomization.open();
+			WorkflowCustomization.unregisterKeywordMapping("testKeyword");
+			inner.unregisterKeywordMapping("other");
+			assertNull(WorkflowCustomization.getKeywordMapping("testKeyword"));
+			assertNull(WorkflowCustomization.getKeywordMapping("other"));
+			// a registration replaces the removal
+			WorkflowCustomization.registerKeywordMapping("testKeyword", SubComponent.class);
+			assertEquals(SubComponent.class, WorkflowCustomization.getKeywordMapping("testKeyword"));
+			inner.close();
+			assertEquals(Component.class, WorkflowCustomization.getKeywordMapping("testKeyword"));
+			assertEquals(Component.class, WorkflowCustomization.getKeywordMapping("other"));
+		}
+		finally {
+			outer.close();
+		}
+		assertEquals(Component.class, WorkflowCustomization.getKeywordMapping("testKeyword"));
+	}
+
+	@Test public void testCloseClosesInnerScopes() {
+		WorkflowCustomization.Scope outer = WorkflowCustomization.open();
+		WorkflowCustomization.open().registerKeywordMapping("testKeyword", Component.class);
+		outer.close();
+		assertNull(WorkflowCustomization.getKeywordMapping("testKeyword"));
+		// nothing is left over for the next scope of this thread
+		WorkflowCustomization.Scope next = WorkflowCustomization.open();
+		assertNull(WorkflowCustomization.getKeywordMapping("testKeyword"));
+		next.close();
+	}
+
+	@Test public void testParallelWorkflowsWithDifferentKeywords() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+		final CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<String>> results = new ArrayList<Future<String>>();
+			for (int t = 0; t < THREADS; t++) {
+				final Class<?> componentClass = t % 2 == 0 ? Component.class : SubComponent.class;
+				results.add(executor.submit(new Callable<String>() {
+					@Override
+					public String call() throws Exception {
+						start.await();
+						for (int i = 0; i < ITERATIONS; i++) {
+							WorkflowCustomization.Scope scope = WorkflowCustomization.open();
+							try {
+								WorkflowCustomization.registerKeywordMapping("testKeyword", componentClass);
+								Workflow workflow = parse("<workflow><testKeyword id='c" + i + "'/></workflow>");
+								Class<?> created = workflow.getComponents().get(0).getClass();
+								if (created != componentClass)
+									return "Expected " + componentClass + " but got " + created;
+							}
+							finally {
+								scope.close();
+							}
+						}
+						return null;
+					}
+				}));
+			}
+			// unrelated global registrations happen at the same time
+			results.add(executor.submit(new Callable<String>() {
+				@Override
+				public String call() throws Exception {
+					start.await();
+					for (int i = 0; i < ITERATIONS * 50; i++) {
+						WorkflowCustomization.registerKeywordMapping("global" + (i % 100), Component.class);
+						WorkflowCustomization.unregisterKeywordMapping("global" + ((i + 50) % 100));
+					}
+					return null;
+				}
+			}));
+			start.countDown();
+			for (Future<String> result : results) {
+				assertNull(result.get(60, TimeUnit.SECONDS));
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertNull(WorkflowCustomization.getKeywordMapping("testKeyword"));
+	}
+
+	private Workflow parse(String workflow) {
+		Issues issues = new IssuesImpl();
+		Workflow result = new WorkflowFactory().parseInitAndCreate(new StringInputStream(workflow), "test",
+				Collections.<String, String> emptyMap(), WorkflowFactory.getDefaultConverter(), issues);
+		if (issues.hasErrors())
+			throw new IllegalStateException(issues.toString());
+		return result;
+	}
+}
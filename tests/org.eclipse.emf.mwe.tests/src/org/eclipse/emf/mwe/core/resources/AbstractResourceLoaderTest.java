@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.core.resources;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AbstractResourceLoaderTest extends Assert {
+
+	private static final String RESOURCE = CachingResourceLoaderTest.class.getCanonicalName().replace('.', '/')
+			+ ".txt";
+
+	@Test public void testUncachedByDefault() throws Exception {
+		CountingResourceLoader loader = new CountingResourceLoader();
+		for (int i = 0; i < 3; i++) {
+			assertNotNull(loader.getResource(RESOURCE));
+			assertNull(loader.getResource("does/not/exist.txt"));
+		}
+		assertEquals(6, loader.direct);
+		assertEquals(6, loader.classLoader);
+		assertEquals(3, loader.file);
+	}
+
+	@Test public void testCachedResources() throws Exception {
+		CountingResourceLoader loader = new CountingResourceLoader();
+		loader.setCacheSize(10);
+		URL url = loader.getResource(RESOURCE);
+		assertNotNull(url);
+		assertNull(loader.getResource("does/not/exist.txt"));
+		assertEquals(2, loader.direct);
+		assertEquals(2, loader.baseURL);
+		assertEquals(2, loader.classLoader);
+		assertEquals(1, loader.file);
+		for (int i = 0; i < 10; i++) {
+			assertEquals(url, loader.getResource(RESOURCE));
+			assertNull(loader.getResource("does/not/exist.txt"));
+			assertNotNull(loader.getResourceAsStream(RESOURCE));
+		}
+		assertEquals(2, loader.direct);
+		assertEquals(2, loader.baseURL);
+		assertEquals(2, loader.classLoader);
+		assertEquals(1, loader.file);
+
+		loader.invalidate();
+		assertEquals(url, loader.getResource(RESOURCE));
+		assertNull(loader.getResource("does/not/exist.txt"));
+		assertEquals(4, loader.direct);
+		assertEquals(2, loader.file);
+	}
+
+	@Test public void testCachedClasses() throws Exception {
+		CountingResourceLoader loader = new CountingResourceLoader();
+		loader.setCacheSize(10);
+		for (int i = 0; i < 10; i++) {
+			assertEquals(getClass(), loader.loadClass(getClass().getName()));
+			assertNull(loader.loadClass("does.not.Exist"));
+			// resolved by the retry with "org.eclipse.emf.mwe"
+			assertEquals(ResourceLoader.class, loader.loadClass("mwe.core.resources.ResourceLoader"));
+		}
+		// one attempt for each name, plus the one for the renamed class
+		assertEquals(4, loader.tryLoadClass);
+		assertEquals(4, loader.internalLoadClass);
+
+		loader.invalidate();
+		assertNull(loader.loadClass("does.not.Exist"));
+		assertEquals(5, loader.tryLoadClass);
+	}
+
+	@Test public void testCacheIsBounded() throws Exception {
+		CountingResourceLoader loader = new CountingResourceLoader();
+		loader.setCacheSize(2);
+		loader.getResource("a");
+		loader.getResource("b");
+		loader.getResource("a");
+		loader.getResource("c");
+		assertEquals(3, loader.file);
+		// "b" is the least recently used entry and has been dropped
+		loader.getResource("a");
+		loader.getResource("b");
+		assertEquals(4, loader.file);
+	}
+
+	@Test public void testDisableCache() throws Exception {
+		CountingResourceLoader loader = new CountingResourceLoader();
+		loader.setCacheSize(10);
+		loader.getResource("a");
+		loader.setCacheSize(0);
+		loader.getResource("a");
+		assertEquals(2, loader.file);
+	}
+
+	@Test public void testCachedPerContextClassLoader() throws Exception {
+		CountingResourceLoader loader = new CountingResourceLoader();
+		loader.setCacheSize(10);
+		Thread thread = Thread.currentThread();
+		ClassLoader original = thread.getContextClassLoader();
+		assertNull(loader.getResource("does/not/exist.txt"));
+		assertNull(loader.loadClass("does.not.Exist"));
+		try {
+			thread.setContextClassLoader(new URLClassLoader(new URL[0], original));
+			assertNull(loader.getResource("does/not/exist.txt"));
+			assertNull(loader.loadClass("does.not.Exist"));
+			assertEquals(2, loader.file);
+			assertEquals(2, loader.tryLoadClass);
+		} finally {
+			thread.setContextClassLoader(original);
+		}
+		assertNull(loader.getResource("does/not/exist.txt"));
+		assertNull(loader.loadClass("does.not.Exist"));
+		assertEquals(2, loader.file);
+		assertEquals(2, loader.tryLoadClass);
+	}
+
+	@Test public void testContextClassLoaderCanBeCollected() throws Exception {
+		AbstractResourceLoader loader = new AbstractResourceLoader() {
+			@Override
+			protected Class<?> tryLoadClass(String clazzName) throws ClassNotFoundException {
+				throw new ClassNotFoundException(clazzName);
+			}
+		};
+		loader.setCacheSize(10);
+		Reference<ClassLoader> contextClassLoader = loadIsolated(loader);
+		for (int i = 0; i < 100 && contextClassLoader.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull(contextClassLoader.get());
+	}
+
+	private Reference<ClassLoader> loadIsolated(AbstractResourceLoader loader) throws Exception {
+		Thread thread = Thread.currentThread();
+		ClassLoader original = thread.getContextClassLoader();
+		URL location = Loadable.class.getProtectionDomain().getCodeSource().getLocation();
+		URLClassLoader isolated = new URLClassLoader(new URL[] { location }, null);
+		try {
+			thread.setContextClassLoader(isolated);
+			Class<?> loaded = loader.loadClass(Loadable.class.getName());
+			assertSame(isolated, loaded.getClassLoader());
+			assertSame(loaded, loader.loadClass(Loadable.class.getName()));
+		} finally {
+			thread.setContextClassLoader(original);
+			isolated.close();
+		}
+		return new WeakReference<ClassLoader>(isolated);
+	}
+
+	public static class Loadable {
+	}
+
+	private static class CountingResourceLoader extends AbstractResourceLoader {
+		int direct;
+		int baseURL;
+		int classLoader;
+		int file;
+		int tryLoadClass;
+		int internalLoadClass;
+
+		@Override
+		protected URL loadDirectly(String path) {
+			direct++;
+			return super.loadDirectly(path);
+		}
+
+		@Override
+		protected URL loadFromBaseURL(String path) {
+			baseURL++;
+			return null;
+		}
+
+		@Override
+		protected URL loadFromContextClassLoader(String path) {
+			classLoader++;
+			return getClass().getClassLoader().getResource(path);
+		}
+
+		@Override
+		protected URL loadFromFile(String path) {
+			file++;
+			return super.loadFromFile(path);
+		}
+
+		@Override
+		protected Class<?> tryLoadClass(String clazzName) throws ClassNotFoundException {
+			tryLoadClass++;
+			throw new ClassNotFoundException(clazzName);
+		}
+
+		@Override
+		protected Class<?> internalLoadClass(String clazzName) throws ClassNotFoundException {
+			internalLoadClass++;
+			return getClass().getClassLoader().loadClass(clazzName);
+		}
+	}
+}
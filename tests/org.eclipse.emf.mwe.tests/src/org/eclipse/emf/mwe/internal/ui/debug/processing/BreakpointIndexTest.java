@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.internal.ui.debug.processing;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.emf.mwe.ui.debug.model.MWEBreakpoint;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BreakpointIndexTest {
+
+	private static final int RESOURCES = 100;
+
+	private static final int BREAKPOINTS_PER_RESOURCE = 100;
+
+	private BreakpointIndex index;
+
+	private SyntheticBreakpoint[][] breakpoints;
+
+	@Before
+	public void setUp() {
+		index = new BreakpointIndex();
+		breakpoints = new SyntheticBreakpoint[RESOURCES][BREAKPOINTS_PER_RESOURCE];
+		IBreakpoint[] all = new IBreakpoint[RESOURCES * BREAKPOINTS_PER_RESOURCE];
+		for (int r = 0; r < RESOURCES; r++) {
+			for (int i = 0; i < BREAKPOINTS_PER_RESOURCE; i++) {
+				// all resources share the same offsets
+				breakpoints[r][i] = new SyntheticBreakpoint("/project/src/workflow" + r + ".mwe", i * 40);
+				all[r * BREAKPOINTS_PER_RESOURCE + i] = breakpoints[r][i];
+			}
+		}
+		index.addAll(all);
+	}
+
+	@Test
+	public void testFind() {
+		assertEquals(RESOURCES * BREAKPOINTS_PER_RESOURCE, index.size());
+		for (int r = 0; r < RESOURCES; r++) {
+			for (int i = 0; i < BREAKPOINTS_PER_RESOURCE; i++) {
+				assertSame(breakpoints[r][i], index.find(i * 40, "src/workflow" + r + ".mwe"));
+			}
+		}
+		assertNull(index.find(1, "src/workflow0.mwe"));
+		assertNull(index.find(0, "src/other.mwe"));
+	}
+
+	@Test
+	public void testListenerUpdates() {
+		SyntheticBreakpoint bp = breakpoints[3][5];
+		index.breakpointRemoved(bp, null);
+		assertNull(index.find(200, "workflow3.mwe"));
+		assertEquals(RESOURCES * BREAKPOINTS_PER_RESOURCE - 1, index.size());
+
+		index.breakpointAdded(bp);
+		assertSame(bp, index.find(200, "workflow3.mwe"));
+
+		bp.offset = 210;
+		index.breakpointChanged(bp, null);
+		assertNull(index.find(200, "workflow3.mwe"));
+		assertSame(bp, index.find(210, "workflow3.mwe"));
+		assertSame(breakpoints[4][5], index.find(200, "workflow4.mwe"));
+		assertEquals(RESOURCES * BREAKPOINTS_PER_RESOURCE, index.size());
+	}
+
+	private static class SyntheticBreakpoint extends MWEBreakpoint {
+
+		private final String resource;
+
+		private int offset;
+
+		private SyntheticBreakpoint(String resource, int offset) {
+			this.resource = resource;
+			this.offset = offset;
+		}
+
+		@Override
+		public int getOffset() {
+			return offset;
+		}
+
+		@Override
+		public String getResource() {
+			return resource;
+		}
+	}
+}
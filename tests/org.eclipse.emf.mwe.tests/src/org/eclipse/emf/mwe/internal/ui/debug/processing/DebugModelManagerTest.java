@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.internal.ui.debug.processing;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.emf.mwe.internal.ui.debug.model.DebugTarget;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DebugModelManagerTest {
+
+	private DebugTarget target;
+
+	private DebugModelManager manager;
+
+	private final CountDownLatch suspended = new CountDownLatch(1);
+
+	private final IDebugEventSetListener listener = new IDebugEventSetListener() {
+		@Override
+		public void handleDebugEvents(DebugEvent[] events) {
+			for (DebugEvent event : events) {
+				if (event.getKind() == DebugEvent.SUSPEND && event.getSource() == target.getThread()) {
+					suspended.countDown();
+				}
+			}
+		}
+	};
+
+	@Before
+	public void setUp() {
+		target = new DebugTarget(null, null) {
+		};
+		manager = new DebugModelManager(target);
+		DebugPlugin.getDefault().addDebugEventListener(listener);
+	}
+
+	@After
+	public void tearDown() {
+		DebugPlugin.getDefault().removeDebugEventListener(listener);
+		manager.handleDebugEvents(new DebugEvent[] { new DebugEvent(target, DebugEvent.TERMINATE) });
+	}
+
+	@Test
+	public void testTerminationDoesNotWait() throws Exception {
+		long start = System.nanoTime();
+		manager.debuggerTerminated();
+		long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		assertTrue("waited " + millis + " ms", millis < DebugModelManager.VIEWER_UPDATE_DELAY / 2);
+		assertTrue(target.isSuspended());
+		assertTrue(suspended.await(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testTerminationRightAfterResumeWaitsForViewerUpdate() throws Exception {
+		long start = System.nanoTime();
+		manager.debuggerResumed();
+		manager.debuggerTerminated();
+		long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		assertTrue("waited " + millis + " ms", millis >= DebugModelManager.VIEWER_UPDATE_DELAY);
+		assertTrue(target.isSuspended());
+		assertTrue(suspended.await(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testTerminationLongAfterResumeDoesNotWait() throws Exception {
+		manager.debuggerResumed();
+		Thread.sleep(DebugModelManager.VIEWER_UPDATE_DELAY);
+		long start = System.nanoTime();
+		manager.debuggerTerminated();
+		long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		assertTrue("waited " + millis + " ms", millis < DebugModelManager.VIEWER_UPDATE_DELAY / 2);
+		assertTrue(suspended.await(10, TimeUnit.SECONDS));
+	}
+}
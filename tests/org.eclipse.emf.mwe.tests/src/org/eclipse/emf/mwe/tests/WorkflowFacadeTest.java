@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.tests;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.eclipse.emf.mwe.core.WorkflowComponent;
+import org.eclipse.emf.mwe.core.WorkflowFacade;
+import org.eclipse.emf.mwe.core.WorkflowInterruptedException;
+import org.eclipse.emf.mwe.core.monitor.NullProgressMonitor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import test.res.Component;
+
+public class WorkflowFacadeTest extends Assert {
+
+	private static final String WORKFLOW = "test/res/facadeWorkflow.mwe";
+
+	@Test public void testMonitorSeesEveryComponent() throws Exception {
+		final WorkflowFacade facade = new WorkflowFacade(WORKFLOW);
+		assertFalse(facade.check().hasErrors());
+		final CountingMonitor monitor = new CountingMonitor();
+		facade.run(new HashMap<String, Object>(), monitor);
+		assertEquals(3, monitor.pre.size());
+		assertEquals(monitor.pre, monitor.post);
+		final List<String> params = new ArrayList<String>();
+		for (final WorkflowComponent comp : monitor.pre) {
+			assertEquals(1, ((Component) comp).invocations);
+			params.add(((Component) comp).stringParam);
+		}
+		assertEquals("[a, b, c]", params.toString());
+		assertEquals(1, monitor.started);
+		assertEquals(1, monitor.finished);
+	}
+
+	@Test public void testCancelBetweenComponents() throws Exception {
+		final WorkflowFacade facade = new WorkflowFacade(WORKFLOW);
+		final CountingMonitor monitor = new CountingMonitor() {
+			@Override
+			public void postTask(final Object element, final Object context) {
+				super.postTask(element, context);
+				setCanceled(true);
+			}
+		};
+		try {
+			facade.run(new HashMap<String, Object>(), monitor);
+			fail("Expected the run to be interrupted");
+		}
+		catch (final WorkflowInterruptedException e) {
+			// expected
+		}
+		assertEquals(1, monitor.pre.size());
+		assertEquals(0, monitor.finished);
+	}
+
+	@Test public void testCanceledBeforeRun() throws Exception {
+		final WorkflowFacade facade = new WorkflowFacade(WORKFLOW);
+		final CountingMonitor monitor = new CountingMonitor();
+		monitor.setCanceled(true);
+		try {
+			facade.run(new HashMap<String, Object>(), monitor);
+			fail("Expected the run to be interrupted");
+		}
+		catch (final WorkflowInterruptedException e) {
+			// expected
+		}
+		assertEquals(0, monitor.started);
+		assertEquals(0, monitor.pre.size());
+	}
+
+	private static class CountingMonitor extends NullProgressMonitor {
+		final List<WorkflowComponent> pre = new ArrayList<WorkflowComponent>();
+		final List<WorkflowComponent> post = new ArrayList<WorkflowComponent>();
+		int started;
+		int finished;
+		boolean canceled;
+
+		@Override
+		public boolean isCanceled() {
+			return canceled;
+		}
+
+		@Override
+		public void setCanceled(final boolean value) {
+			canceled = value;
+		}
+
+		@Override
+		public void started(final Object element, final Object context) {
+			started++;
+		}
+
+		@Override
+		public void finished(final Object element, final Object context) {
+			finished++;
+		}
+
+		@Override
+		public void preTask(final Object element, final Object context) {
+			pre.add((WorkflowComponent) element);
+		}
+
+		@Override
+		public void postTask(final Object element, final Object context) {
+			post.add((WorkflowComponent) element);
+		}
+	}
+}
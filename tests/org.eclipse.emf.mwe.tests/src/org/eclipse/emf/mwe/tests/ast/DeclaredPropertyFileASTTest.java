@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.tests.ast;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Properties;
+
+import org.eclipse.emf.mwe.core.issues.Issues;
+import org.eclipse.emf.mwe.core.issues.IssuesImpl;
+import org.eclipse.emf.mwe.core.resources.ResourceLoader;
+import org.eclipse.emf.mwe.core.resources.ResourceLoaderImpl;
+import org.eclipse.emf.mwe.internal.core.ast.ComponentAST;
+import org.eclipse.emf.mwe.internal.core.ast.DeclaredPropertyFileAST;
+import org.eclipse.emf.mwe.internal.core.ast.InclusionAST;
+import org.eclipse.emf.mwe.internal.core.ast.parser.Location;
+import org.eclipse.emf.mwe.internal.core.ast.parser.WorkflowParser;
+import org.eclipse.emf.mwe.internal.core.ast.util.VisitorInitializer;
+import org.eclipse.emf.mwe.tests.util.DummyResourceLoader;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DeclaredPropertyFileASTTest extends Assert {
+
+	private static final String CONTENT = "# comment\n"
+			+ "! another comment\n"
+			+ "equals=1\n"
+			+ "  spacedEquals = 2\n"
+			+ "colon:3\n"
+			+ "spacedColon : 4\n"
+			+ "space 5\n"
+			+ "tab\t6\n"
+			+ "formFeed\f7\n"
+			+ "empty\n"
+			+ "continued = a, \\\n"
+			+ "            b\n"
+			+ "escaped\\ key\\:x=8\n"
+			+ "unicode\\u0041=9\n"
+			+ "nested=a=b\n"
+			+ "equals=10\n";
+
+	private File file;
+
+	@Before
+	public void setUp() throws Exception {
+		file = File.createTempFile("declared", ".properties");
+		write(CONTENT);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		file.delete();
+	}
+
+	@Test
+	public void testAllSeparators() throws Exception {
+		final DeclaredPropertyFileAST ast = new DeclaredPropertyFileAST(new Location(0, 0, "test"), file.getPath());
+		final ResourceLoader loader = new ResourceLoaderImpl(getClass().getClassLoader());
+		final Properties properties = ast.getProperties(loader);
+
+		final Properties expected = new Properties();
+		expected.load(new ByteArrayInputStream(CONTENT.getBytes("ISO-8859-1")));
+		assertEquals(expected, properties);
+		assertEquals("10", properties.get("equals"));
+		assertEquals("a, b", properties.get("continued"));
+		assertEquals("", properties.get("empty"));
+		assertEquals("8", properties.get("escaped key:x"));
+		assertEquals("a=b", properties.get("nested"));
+
+		assertEquals(Arrays.asList("equals", "spacedEquals", "colon", "spacedColon", "space", "tab", "formFeed",
+				"empty", "continued", "escaped key:x", "unicodeA", "nested"), ast.getPropertyNames(loader));
+	}
+
+	@Test
+	public void testSharedPerURL() throws Exception {
+		final ResourceLoader loader = new ResourceLoaderImpl(getClass().getClassLoader());
+		final Properties first = new DeclaredPropertyFileAST(new Location(0, 0, "a"), file.getPath())
+				.getProperties(loader);
+		final Properties second = new DeclaredPropertyFileAST(new Location(0, 0, "b"), file.getPath())
+				.getProperties(loader);
+		assertSame(first, second);
+
+		final Properties otherLoader = new DeclaredPropertyFileAST(new Location(0, 0, "c"), file.getPath())
+				.getProperties(new ResourceLoaderImpl(getClass().getClassLoader()));
+		assertSame(first, otherLoader);
+
+		write("changed=true\n");
+		assertTrue(file.setLastModified(file.lastModified() + 2000));
+		final DeclaredPropertyFileAST changed = new DeclaredPropertyFileAST(new Location(0, 0, "d"), file.getPath());
+		assertEquals("true", changed.getProperties(loader).get("changed"));
+		assertEquals(Arrays.asList("changed"), changed.getPropertyNames(loader));
+	}
+
+	@Test
+	public void testSharedWithIncludedWorkflow() throws Exception {
+		final File included = File.createTempFile("included", ".mwe");
+		try {
+			final String property = "<property file='" + file.getPath() + "'/>";
+			final OutputStream out = new FileOutputStream(included);
+			try {
+				out.write(("<workflow>" + property + "</workflow>").getBytes("ISO-8859-1"));
+			}
+			finally {
+				out.close();
+			}
+			final String workflow = "<workflow>" + property + "<component file='" + included.getPath() + "'/></workflow>";
+			final Issues issues = new IssuesImpl();
+			final ComponentAST ast = (ComponentAST) new WorkflowParser().parse(
+					new ByteArrayInputStream(workflow.getBytes("ISO-8859-1")), "outer.mwe", issues);
+			ast.accept(new VisitorInitializer(issues, new HashMap<String, String>(),
+					new HashMap<String, ComponentAST>()));
+			assertFalse(issues.toString(), issues.hasErrors());
+
+			final ResourceLoader loader = new ResourceLoaderImpl(getClass().getClassLoader());
+			final DeclaredPropertyFileAST outer = (DeclaredPropertyFileAST) ast.getChildren().get(0);
+			final InclusionAST inclusion = (InclusionAST) ast.getChildren().get(1);
+			final DeclaredPropertyFileAST inner = (DeclaredPropertyFileAST) ((ComponentAST) inclusion
+					.getImportedElement()).getChildren().get(0);
+			// the visitor of the inclusion has used a loader of its own
+			assertSame(outer.getProperties(loader), inner.getProperties(loader));
+		}
+		finally {
+			included.delete();
+		}
+	}
+
+	@Test
+	public void testLoaderWithoutURLs() throws Exception {
+		final ResourceLoader loader = new DummyResourceLoader() {
+			@Override
+			public InputStream getResourceAsStream(final String uri) {
+				return new ByteArrayInputStream("b=1\na:2\n".getBytes());
+			}
+		};
+		final DeclaredPropertyFileAST ast = new DeclaredPropertyFileAST(new Location(0, 0, "test"), "any");
+		assertEquals(Arrays.asList("b", "a"), ast.getPropertyNames(loader));
+		assertEquals("2", ast.getProperties(loader).get("a"));
+	}
+
+	@Test
+	public void testMissingFile() throws Exception {
+		final DeclaredPropertyFileAST ast = new DeclaredPropertyFileAST(new Location(0, 0, "test"), "does/not/exist");
+		assertNull(ast.getProperties(new DummyResourceLoader()));
+		assertNull(ast.getPropertyNames(new DummyResourceLoader()));
+	}
+
+	private void write(final String content) throws IOException {
+		final OutputStream out = new FileOutputStream(file);
+		try {
+			out.write(content.getBytes("ISO-8859-1"));
+		}
+		finally {
+			out.close();
+		}
+	}
+}
@@ -66,4 +66,19 @@ public class WorkflowParserTest extends Assert {
         assertEquals(0, i.getChildren().size());
     }
 
+	@Test
+	public void testParserIsReusable() throws Exception {
+		final WorkflowParser parser = new WorkflowParser();
+		final Issues issues = new IssuesImpl();
+		assertNull(parser.parse(new StringInputStream("<workflow>"), "broken", issues));
+		assertTrue(issues.hasErrors());
+		for (int i = 0; i < 3; i++) {
+			final ComponentAST wfast = (ComponentAST) new WorkflowParser().parse(new StringInputStream(
+					"<workflow><component class='test.Comp'/></workflow>"), "dynamic" + i, new IssuesImpl());
+			assertNotNull(wfast);
+			assertEquals(1, wfast.getChildren().size());
+			assertEquals("dynamic" + i, wfast.getChildren().get(0).getLocation().getResource());
+		}
+	}
+
 }
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.tests.ast.parser;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+
+import org.eclipse.emf.mwe.core.issues.Issues;
+import org.eclipse.emf.mwe.core.issues.IssuesImpl;
+import org.eclipse.emf.mwe.internal.core.ast.ComponentAST;
+import org.eclipse.emf.mwe.internal.core.ast.InclusionAST;
+import org.eclipse.emf.mwe.internal.core.ast.ReferenceAST;
+import org.eclipse.emf.mwe.internal.core.ast.SimpleParamAST;
+import org.eclipse.emf.mwe.internal.core.ast.parser.WorkflowFragmentCache;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WorkflowFragmentCacheTest extends Assert {
+
+	private File file;
+
+	private URL url;
+
+	private WorkflowFragmentCache cache;
+
+	private Issues issues;
+
+	@Before
+	public void setUp() throws Exception {
+		file = File.createTempFile("fragment", ".mwe");
+		url = file.toURI().toURL();
+		cache = new WorkflowFragmentCache(10);
+		issues = new IssuesImpl();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		file.delete();
+	}
+
+	@Test
+	public void testCopiesAreIndependent() throws Exception {
+		write("<workflow><component class='test.Comp' id='x' p='${a}'><ref idRef='x'/></component>"
+				+ "<component file='test.file' inheritAll='true'/></workflow>");
+		final ComponentAST first = (ComponentAST) cache.parse(url, "fragment", issues);
+		final ComponentAST second = (ComponentAST) cache.parse(url, "fragment", issues);
+		assertFalse(issues.hasErrors());
+		assertNotSame(first, second);
+		assertEquals(2, second.getChildren().size());
+
+		final ComponentAST comp = (ComponentAST) first.getChildren().get(0);
+		comp.setClazz("other.Comp");
+		((SimpleParamAST) comp.getChildren().get(0)).setValue("resolved");
+
+		final ComponentAST otherComp = (ComponentAST) second.getChildren().get(0);
+		assertNotSame(comp, otherComp);
+		assertEquals("test.Comp", otherComp.getClazz());
+		assertEquals("x", otherComp.getId());
+		assertEquals("${a}", ((SimpleParamAST) otherComp.getChildren().get(0)).getValue());
+		assertEquals("x", ((ReferenceAST) otherComp.getChildren().get(1)).getIdRef());
+
+		final InclusionAST inclusion = (InclusionAST) second.getChildren().get(1);
+		assertEquals("test.file", inclusion.getFile());
+		assertTrue(inclusion.isInheritAll());
+		assertEquals("fragment", inclusion.getResource());
+
+		final ComponentAST third = (ComponentAST) cache.parse(url, "fragment", issues);
+		assertEquals("test.Comp", ((ComponentAST) third.getChildren().get(0)).getClazz());
+	}
+
+	@Test
+	public void testModifiedFileIsParsedAgain() throws Exception {
+		write("<workflow><component class='test.Comp'/></workflow>");
+		file.setLastModified(1000000L);
+		ComponentAST wf = (ComponentAST) cache.parse(url, "fragment", issues);
+		assertEquals(1, wf.getChildren().size());
+
+		write("<workflow><component class='test.Comp'/><component class='test.Comp'/></workflow>");
+		file.setLastModified(2000000L);
+		wf = (ComponentAST) cache.parse(url, "fragment", issues);
+		assertEquals(2, wf.getChildren().size());
+	}
+
+	@Test
+	public void testIssuesAreReportedForEveryInclusion() throws Exception {
+		write("<workflow><property/></workflow>");
+		cache.parse(url, "fragment", issues);
+		assertEquals(1, issues.getErrors().length);
+		cache.parse(url, "fragment", issues);
+		assertEquals(2, issues.getErrors().length);
+	}
+
+	private void write(final String content) throws IOException {
+		final OutputStream out = new FileOutputStream(file);
+		try {
+			out.write(content.getBytes("ISO-8859-1"));
+		}
+		finally {
+			out.close();
+		}
+	}
+}
@@ -19,7 +19,10 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.List;
 
+import org.eclipse.emf.mwe.core.issues.IssuesImpl;
+import org.eclipse.emf.mwe.internal.core.ast.ComponentAST;
 import org.eclipse.emf.mwe.internal.core.ast.parser.Location;
+import org.eclipse.emf.mwe.internal.core.ast.parser.WorkflowParser;
 import org.eclipse.emf.mwe.internal.core.ast.parser.XmlLocationAnalyser;
 import org.eclipse.emf.mwe.internal.core.ast.parser.XmlLocationAnalyser.XmlFileEvaluator;
 import org.junit.Assert;
@@ -174,6 +177,23 @@ public class XmlLocationAnalyserTest extends Assert {
 		assertEquals("wrong tag name", "555", txt.substring(loc.getNameStart(), loc.getNameEnd()));
 	}
 	
+	@Test public final void testRecordWhileParsing() {
+		String txt = "<workflow>\n  <component class='a.B'/>\n  <other value='x'/>\n</workflow>";
+		XmlLocationAnalyser analyser = new XmlLocationAnalyser();
+		WorkflowParser parser = new WorkflowParser();
+		parser.setLocationAnalyser(analyser);
+		ComponentAST wf = (ComponentAST) parser.parse(new ByteArrayInputStream(txt.getBytes()), "recorded.mwe",
+				new IssuesImpl());
+
+		// the resource does not exist, the analyser has to use the recorded content
+		Location loc = analyser.adapt(wf.getChildren().get(0).getLocation());
+		assertEquals(2, loc.getLineNumber());
+		assertEquals("component", txt.substring(loc.getNameStart(), loc.getNameEnd()));
+		loc = analyser.adapt(wf.getChildren().get(1).getLocation());
+		assertEquals(3, loc.getLineNumber());
+		assertEquals("other", txt.substring(loc.getNameStart(), loc.getNameEnd()));
+	}
+
 	private void evaluate(final String txt, final String[] check) {
 		this.check = check;
 		checkPtr = 0;
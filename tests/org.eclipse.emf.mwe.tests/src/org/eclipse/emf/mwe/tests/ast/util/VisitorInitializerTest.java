@@ -17,6 +17,7 @@ import java.util.Map;
 import org.eclipse.emf.mwe.core.issues.Issues;
 import org.eclipse.emf.mwe.core.issues.IssuesImpl;
 import org.eclipse.emf.mwe.internal.core.ast.ComponentAST;
+import org.eclipse.emf.mwe.internal.core.ast.parser.Location;
 import org.eclipse.emf.mwe.internal.core.ast.util.VisitorInitializer;
 import org.junit.Assert;
 import org.junit.Test;
@@ -75,4 +76,68 @@ public class VisitorInitializerTest extends Assert {
 		assertEquals("workflow.oaw", invokeTranslateFileName(mi, "workflow.oaw"));
 		assertEquals("workflow.mwe", invokeTranslateFileName(mi, "workflow"));
 	}
+
+	@Test public void testReplaceProperties() {
+		Map<String, String> properties = new HashMap<String, String>();
+		properties.put("a", "A");
+		properties.put("b.c", "${a}-${a}");
+		properties.put("d", "${b.c}/${b.c}");
+		TestableVisitorInitializer mi = new TestableVisitorInitializer(properties);
+
+		assertEquals("no properties", mi.replaceProperties("no properties"));
+		assertEquals("A", mi.replaceProperties("${a}"));
+		assertEquals("xA-Ay", mi.replaceProperties("x${b.c}y"));
+		assertEquals("A-A/A-A", mi.replaceProperties("${d}"));
+		assertEquals("$${A}", mi.replaceProperties("$${${a}}"));
+		assertEquals("${} ${a b} $", mi.replaceProperties("${} ${a b} $"));
+		assertFalse(mi.issues.hasErrors());
+		assertFalse(mi.issues.hasWarnings());
+	}
+
+	@Test public void testReplacePropertiesWarnings() {
+		Map<String, String> properties = new HashMap<String, String>();
+		properties.put("a", "A");
+		TestableVisitorInitializer mi = new TestableVisitorInitializer(properties);
+
+		assertEquals("$(a) A $(b)", mi.replaceProperties("$(a) ${a} $(b)"));
+		assertEquals(2, mi.issues.getWarnings().length);
+		assertFalse(mi.issues.hasErrors());
+	}
+
+	@Test public void testReplacePropertiesMissing() {
+		TestableVisitorInitializer mi = new TestableVisitorInitializer(new HashMap<String, String>());
+
+		assertNull(mi.replaceProperties("x ${missing} $(a)"));
+		assertEquals(1, mi.issues.getErrors().length);
+		assertEquals(1, mi.issues.getWarnings().length);
+	}
+
+	@Test public void testReplacePropertiesRecursive() {
+		Map<String, String> properties = new HashMap<String, String>();
+		properties.put("a", "${b}");
+		properties.put("b", "x${a}");
+		TestableVisitorInitializer mi = new TestableVisitorInitializer(properties);
+
+		assertNull(mi.replaceProperties("${a}"));
+		assertEquals(1, mi.issues.getErrors().length);
+	}
+
+	private static class TestableVisitorInitializer extends VisitorInitializer {
+		private final Issues issues;
+
+		private final ComponentAST ast = new ComponentAST(new Location(1, 1, "test.mwe"), "component", null, null);
+
+		TestableVisitorInitializer(Map<String, String> properties) {
+			this(new IssuesImpl(), properties);
+		}
+
+		private TestableVisitorInitializer(Issues issues, Map<String, String> properties) {
+			super(issues, properties, new HashMap<String, ComponentAST>());
+			this.issues = issues;
+		}
+
+		String replaceProperties(String toResolve) {
+			return replaceProperties(toResolve, ast);
+		}
+	}
 }
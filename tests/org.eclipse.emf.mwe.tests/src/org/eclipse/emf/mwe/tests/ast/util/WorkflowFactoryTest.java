@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.Map;
 
 import org.apache.tools.ant.filters.StringInputStream;
+import org.eclipse.emf.mwe.core.WorkflowComponentWithTimeout;
 import org.eclipse.emf.mwe.core.container.CompositeComponent;
 import org.eclipse.emf.mwe.core.issues.Issues;
 import org.eclipse.emf.mwe.core.issues.IssuesImpl;
@@ -72,6 +73,14 @@ public class WorkflowFactoryTest extends AbstractWorkflowParsingTestBase {
         assertEquals(2, Component.CHECKS);
     }
 
+	@Test public void testTimeoutAttribute() {
+		final Workflow cont = parseWorkflow(new StringInputStream("<workflow>"
+				+ "<component class='org.eclipse.emf.mwe.utils.DirectoryCleaner' timeout='1500'/>"
+				+ "</workflow>"), Collections.EMPTY_MAP);
+		assertNoIssues();
+		assertEquals(1500, ((WorkflowComponentWithTimeout) cont.getComponents().get(0)).getTimeout());
+	}
+
     String conditional = "<workflow>                                                      "
             + "   <property name='prop' value='true'/>                                        "
             + "   <if cond='${prop}'>                                                                 "
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.tests.util;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import org.eclipse.emf.mwe.core.WorkflowContextDefaultImpl;
+import org.eclipse.emf.mwe.core.issues.Issues;
+import org.eclipse.emf.mwe.core.issues.IssuesImpl;
+import org.eclipse.emf.mwe.core.monitor.NullProgressMonitor;
+import org.eclipse.emf.mwe.utils.DirectoryCleaner;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DirectoryCleanerTest extends Assert {
+	private Path root;
+	private Path dir;
+	private Issues issues;
+
+	@Before
+	public void setUp() throws Exception {
+		root = Files.createTempDirectory("cleaner");
+		dir = Files.createDirectory(root.resolve("src-gen"));
+		issues = new IssuesImpl();
+		for (int i = 0; i < 5; i++) {
+			Path sub = Files.createDirectories(dir.resolve("a" + i).resolve("b"));
+			for (int j = 0; j < 10; j++) {
+				Files.write(sub.resolve("File" + j + ".java"), new byte[] { 42 });
+			}
+		}
+		Files.write(dir.resolve(".gitignore"), new byte[0]);
+		Files.write(dir.resolve("a0").resolve(".gitignore"), new byte[0]);
+		Files.write(dir.resolve("keep.txt"), new byte[0]);
+		Files.write(dir.resolve("Top.java"), new byte[0]);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult preVisitDirectory(Path d, BasicFileAttributes attrs) {
+				d.toFile().setWritable(true);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				Files.delete(file);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory(Path d, IOException exc) throws IOException {
+				Files.delete(d);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	@Test public void testClean() throws Exception {
+		DirectoryCleaner cleaner = createCleaner();
+		cleaner.setParallelism(4);
+		cleaner.invoke(new WorkflowContextDefaultImpl(), new NullProgressMonitor(), issues);
+		assertFalse(issues.hasErrors());
+		assertFalse(Files.exists(dir.resolve("Top.java")));
+		assertFalse(Files.exists(dir.resolve("a3/b/File3.java")));
+		assertTrue(Files.isDirectory(dir.resolve("a3/b")));
+		assertTrue(Files.exists(dir.resolve(".gitignore")));
+		assertTrue(Files.exists(dir.resolve("a0/.gitignore")));
+		assertTrue(Files.exists(dir.resolve("keep.txt")));
+	}
+
+	@Test public void testSequentialClean() throws Exception {
+		DirectoryCleaner cleaner = createCleaner();
+		cleaner.setParallelism(1);
+		cleaner.invoke(new WorkflowContextDefaultImpl(), new NullProgressMonitor(), issues);
+		assertFalse(issues.hasErrors());
+		assertFalse(Files.exists(dir.resolve("a4/b/File9.java")));
+		assertTrue(Files.exists(dir.resolve("keep.txt")));
+	}
+
+	@Test public void testSymbolicLinksAreNotFollowed() throws Exception {
+		Path outside = Files.createDirectory(root.resolve("outside"));
+		Files.write(outside.resolve("Precious.java"), new byte[0]);
+		try {
+			Files.createSymbolicLink(dir.resolve("link"), outside);
+		} catch (UnsupportedOperationException e) {
+			Assume.assumeNoException(e);
+		} catch (IOException e) {
+			Assume.assumeNoException(e);
+		}
+		createCleaner().invoke(new WorkflowContextDefaultImpl(), new NullProgressMonitor(), issues);
+		assertFalse(issues.hasErrors());
+		assertTrue(Files.exists(outside.resolve("Precious.java")));
+		assertFalse(Files.exists(dir.resolve("link")));
+	}
+
+	@Test public void testFailuresAreCollected() throws Exception {
+		Path locked = dir.resolve("a1/b");
+		locked.toFile().setWritable(false);
+		Assume.assumeFalse("file permissions are not enforced", Files.isWritable(locked));
+		createCleaner().invoke(new WorkflowContextDefaultImpl(), new NullProgressMonitor(), issues);
+		assertEquals(10, issues.getErrors().length);
+		assertTrue(Files.exists(locked.resolve("File0.java")));
+		assertFalse(Files.exists(dir.resolve("a2/b/File0.java")));
+		assertFalse(Files.exists(dir.resolve("Top.java")));
+	}
+
+	@Test public void testDeleteAsync() throws Exception {
+		DirectoryCleaner cleaner = createCleaner();
+		cleaner.setDeleteAsync(true);
+		cleaner.invoke(new WorkflowContextDefaultImpl(), new NullProgressMonitor(), issues);
+		assertFalse(issues.hasErrors());
+		assertFalse(Files.exists(dir.resolve("Top.java")));
+		assertFalse(Files.exists(dir.resolve("a3/b/File3.java")));
+		assertTrue(Files.isDirectory(dir.resolve("a3/b")));
+		assertTrue(Files.exists(dir.resolve(".gitignore")));
+		assertTrue(Files.exists(dir.resolve("keep.txt")));
+		waitForTrash();
+		assertArrayEquals(new String[] { "src-gen" }, root.toFile().list());
+	}
+
+	@Test public void testDeleteAsyncRemovesLeftoverTrash() throws Exception {
+		Path leftover = Files.createDirectories(root.resolve(".src-gen.mwe-trash-1/a0"));
+		Files.write(leftover.resolve("Stale.java"), new byte[0]);
+		Path otherTrash = Files.createDirectory(root.resolve(".other.mwe-trash-1"));
+		DirectoryCleaner cleaner = createCleaner();
+		cleaner.setDeleteAsync(true);
+		cleaner.invoke(new WorkflowContextDefaultImpl(), new NullProgressMonitor(), issues);
+		assertFalse(issues.hasErrors());
+		waitForTrash();
+		assertTrue(Files.exists(otherTrash));
+	}
+
+	@Test public void testDeleteAsyncKeepsNestedExcludes() throws Exception {
+		Files.write(dir.resolve("a2/b/keep.txt"), new byte[0]);
+		Path excludedDir = Files.createDirectories(dir.resolve("a3/b/CVS"));
+		Files.write(excludedDir.resolve("Entries"), new byte[0]);
+		DirectoryCleaner cleaner = createCleaner();
+		cleaner.setDeleteAsync(true);
+		cleaner.invoke(new WorkflowContextDefaultImpl(), new NullProgressMonitor(), issues);
+		assertFalse(issues.hasErrors());
+		assertTrue(Files.exists(dir.resolve("a0/.gitignore")));
+		assertTrue(Files.exists(dir.resolve("a2/b/keep.txt")));
+		assertTrue(Files.exists(excludedDir.resolve("Entries")));
+		assertFalse(Files.exists(dir.resolve("a2/b/File0.java")));
+		waitForTrash();
+	}
+
+	@Test public void testConcurrentDeleteAsync() throws Exception {
+		DirectoryCleaner first = createCleaner();
+		first.setDeleteAsync(true);
+		DirectoryCleaner second = createCleaner();
+		second.setDeleteAsync(true);
+		first.invoke(new WorkflowContextDefaultImpl(), new NullProgressMonitor(), issues);
+		Files.write(dir.resolve("a1/b/New.java"), new byte[0]);
+		second.invoke(new WorkflowContextDefaultImpl(), new NullProgressMonitor(), issues);
+		assertFalse(issues.hasErrors());
+		assertFalse(Files.exists(dir.resolve("a1/b/New.java")));
+		waitForTrash();
+		assertTrue(Files.exists(dir.resolve("keep.txt")));
+	}
+
+	@SuppressWarnings("deprecation")
+	@Test public void testCleanFolderWithFilter() throws Exception {
+		boolean result = new DirectoryCleaner().cleanFolder(dir.toFile(), new FileFilter() {
+			@Override
+			public boolean accept(File path) {
+				return !path.getName().equals("a4") && !path.getName().equals("keep.txt");
+			}
+		}, true, false);
+		assertTrue(result);
+		assertTrue(Files.exists(dir.resolve("a4/b/File0.java")));
+		assertTrue(Files.exists(dir.resolve("keep.txt")));
+		assertFalse(Files.exists(dir.resolve(".gitignore")));
+		assertFalse(Files.exists(dir.resolve("a3/b/File0.java")));
+	}
+
+	private void waitForTrash() throws InterruptedException {
+		for (int i = 0; i < 100 && hasTrash(); i++) {
+			Thread.sleep(100);
+		}
+		assertFalse(hasTrash());
+	}
+
+	private boolean hasTrash() {
+		for (String name : root.toFile().list()) {
+			if (name.startsWith(".src-gen.mwe-trash-"))
+				return true;
+		}
+		return false;
+	}
+
+	private DirectoryCleaner createCleaner() {
+		DirectoryCleaner cleaner = new DirectoryCleaner();
+		cleaner.setDirectory(dir.toString());
+		cleaner.addExclude("keep.txt");
+		return cleaner;
+	}
+}
@@ -3,6 +3,13 @@ package org.eclipse.emf.mwe.tests.util;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 
 import org.eclipse.emf.mwe.core.WorkflowContext;
 import org.eclipse.emf.mwe.core.WorkflowContextDefaultImpl;
@@ -77,6 +84,121 @@ public class FileCopyTest extends Assert {
 		assertTrue(issues.hasWarnings());
 	}
 
+	@Test public void testCopyDirectory() throws Exception {
+		Path sourceDir = Files.createTempDirectory("copier");
+		Path targetDir = Files.createTempDirectory("copier");
+		try {
+			for (int i = 0; i < 20; i++) {
+				Path dir = Files.createDirectories(sourceDir.resolve("pkg" + (i % 4)).resolve("sub"));
+				Files.write(dir.resolve("File" + i + ".java"), ("class File" + i + " {}").getBytes());
+				Files.write(dir.resolve("File" + i + ".txt"), new byte[] { 42 });
+			}
+			Files.write(sourceDir.resolve("pkg0/sub/Excluded.java"), new byte[] { 42 });
+
+			FileCopy copy = new FileCopy();
+			copy.setSourceDirectory(sourceDir.toString());
+			copy.setTargetDirectory(targetDir.resolve("out").toString());
+			copy.addInclude("**/*.java");
+			copy.addExclude("**/Excluded.java");
+			copy.setParallelism(4);
+			Issues issues = new IssuesImpl();
+			copy.checkConfiguration(issues);
+			assertFalse(issues.hasErrors());
+
+			WorkflowContext ctx = new WorkflowContextDefaultImpl();
+			copy.invoke(ctx, new NullProgressMonitor(), issues);
+			assertFalse(issues.hasErrors());
+			assertStatistics(ctx, 20, 0, 0);
+			assertEquals("class File5 {}", new String(Files.readAllBytes(targetDir.resolve("out/pkg1/sub/File5.java"))));
+			assertFalse(Files.exists(targetDir.resolve("out/pkg1/sub/File5.txt")));
+			assertFalse(Files.exists(targetDir.resolve("out/pkg0/sub/Excluded.java")));
+
+			// nothing changed
+			copy.invoke(ctx, new NullProgressMonitor(), issues);
+			assertStatistics(ctx, 0, 20, 0);
+
+			Files.write(sourceDir.resolve("pkg2/sub/File2.java"), "changed".getBytes());
+			copy.invoke(ctx, new NullProgressMonitor(), issues);
+			assertStatistics(ctx, 1, 19, 0);
+			assertEquals("changed", new String(Files.readAllBytes(targetDir.resolve("out/pkg2/sub/File2.java"))));
+
+			// same content, different time stamp
+			Path touched = sourceDir.resolve("pkg3/sub/File3.java");
+			Files.setLastModifiedTime(touched, FileTime.fromMillis(Files.getLastModifiedTime(touched).toMillis() - 10000));
+			copy.setCompareContent(true);
+			copy.invoke(ctx, new NullProgressMonitor(), issues);
+			assertStatistics(ctx, 0, 20, 0);
+			assertFalse(issues.hasErrors());
+		} finally {
+			delete(sourceDir);
+			delete(targetDir);
+		}
+	}
+
+	@Test public void testGranularity() throws Exception {
+		Path sourceDir = Files.createTempDirectory("copier");
+		Path targetDir = Files.createTempDirectory("copier");
+		try {
+			Path source = sourceDir.resolve("File.java");
+			Files.write(source, "class File {}".getBytes());
+			Files.setLastModifiedTime(source, FileTime.fromMillis(1500000000000L));
+
+			FileCopy copy = new FileCopy();
+			copy.setSourceDirectory(sourceDir.toString());
+			copy.setTargetDirectory(targetDir.toString());
+			copy.setGranularity(2000);
+			Issues issues = new IssuesImpl();
+			WorkflowContext ctx = new WorkflowContextDefaultImpl();
+			copy.invoke(ctx, new NullProgressMonitor(), issues);
+			assertStatistics(ctx, 1, 0, 0);
+
+			// a file system with coarser time stamps truncates the copied time
+			Path target = targetDir.resolve("File.java");
+			Files.setLastModifiedTime(target, FileTime.fromMillis(1500000000000L - 1500));
+			copy.invoke(ctx, new NullProgressMonitor(), issues);
+			assertStatistics(ctx, 0, 1, 0);
+
+			copy.setGranularity(1000);
+			copy.invoke(ctx, new NullProgressMonitor(), issues);
+			assertStatistics(ctx, 1, 0, 0);
+			assertEquals(1500000000000L, Files.getLastModifiedTime(target).toMillis());
+			assertFalse(issues.hasErrors());
+		} finally {
+			delete(sourceDir);
+			delete(targetDir);
+		}
+	}
+
+	@Test public void testMissingTargetDirectory() {
+		FileCopy copy = new FileCopy();
+		copy.setSourceDirectory("src");
+		Issues issues = new IssuesImpl();
+		copy.checkConfiguration(issues);
+		assertEquals(1, issues.getErrors().length);
+	}
+
+	private void assertStatistics(WorkflowContext ctx, int copied, int skipped, int failed) {
+		assertEquals(copied, ctx.get("fileCopy_copied"));
+		assertEquals(skipped, ctx.get("fileCopy_skipped"));
+		assertEquals(failed, ctx.get("fileCopy_failed"));
+	}
+
+	private void delete(Path root) throws IOException {
+		Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				Files.delete(file);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+				Files.delete(dir);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
 	@After
 	public void tearDown() {
 		sourceFile.delete();
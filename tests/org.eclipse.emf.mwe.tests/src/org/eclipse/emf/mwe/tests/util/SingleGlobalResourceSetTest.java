@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe.tests.util;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.mwe.core.WorkflowContext;
+import org.eclipse.emf.mwe.core.WorkflowContextDefaultImpl;
+import org.eclipse.emf.mwe.core.issues.Issues;
+import org.eclipse.emf.mwe.core.issues.IssuesImpl;
+import org.eclipse.emf.mwe.core.monitor.NullProgressMonitor;
+import org.eclipse.emf.mwe.utils.Reader;
+import org.eclipse.emf.mwe.utils.SingleGlobalResourceSet;
+import org.eclipse.emf.mwe.utils.Writer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SingleGlobalResourceSetTest extends Assert {
+
+	private static final int MODELS = 20;
+
+	private File directory;
+
+	@Before
+	public void setUp() throws Exception {
+		directory = Files.createTempDirectory("scopes").toFile();
+	}
+
+	@After
+	public void tearDown() {
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	@Test public void testScopes() {
+		ResourceSet global = SingleGlobalResourceSet.get();
+		assertSame(global, SingleGlobalResourceSet.get());
+		SingleGlobalResourceSet.Scope outer = SingleGlobalResourceSet.open();
+		ResourceSet outerSet = SingleGlobalResourceSet.get();
+		assertNotSame(global, outerSet);
+		SingleGlobalResourceSet.Scope inner = SingleGlobalResourceSet.open();
+		assertNotSame(outerSet, SingleGlobalResourceSet.get());
+		inner.close();
+		assertSame(outerSet, SingleGlobalResourceSet.get());
+		outer.close();
+		assertSame(global, SingleGlobalResourceSet.get());
+	}
+
+	@Test public void testParallelWorkflowsAreIsolated() throws Exception {
+		final CyclicBarrier barrier = new CyclicBarrier(2);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			List<Future<ResourceSet>> results = new ArrayList<Future<ResourceSet>>();
+			for (final String workflow : new String[] { "first", "second" }) {
+				results.add(executor.submit(new Callable<ResourceSet>() {
+					@Override
+					public ResourceSet call() throws Exception {
+						return runWorkflow(workflow, barrier);
+					}
+				}));
+			}
+			ResourceSet first = results.get(0).get(60, TimeUnit.SECONDS);
+			ResourceSet second = results.get(1).get(60, TimeUnit.SECONDS);
+			assertNotSame(first, second);
+			assertNotSame(SingleGlobalResourceSet.get(), first);
+			assertResources("first", first);
+			assertResources("second", second);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private ResourceSet runWorkflow(String workflow, CyclicBarrier barrier) throws Exception {
+		SingleGlobalResourceSet.Scope scope = SingleGlobalResourceSet.open();
+		try {
+			for (int i = 0; i < MODELS; i++) {
+				String uri = new File(directory, workflow + i + ".ecore").toURI().toString();
+				WorkflowContext ctx = new WorkflowContextDefaultImpl();
+				Issues issues = new IssuesImpl();
+				EPackage pack = EcoreFactory.eINSTANCE.createEPackage();
+				pack.setName(workflow + i);
+				pack.setNsURI("http://www.eclipse.org/mwe/tests/" + workflow + i);
+				ctx.set("model", pack);
+
+				Writer writer = new Writer();
+				writer.setUseSingleGlobalResourceSet(true);
+				writer.setModelSlot("model");
+				writer.setUri(uri);
+				Reader reader = new Reader();
+				reader.setUseSingleGlobalResourceSet(true);
+				reader.setMakeEPackagesGlobal(false);
+				reader.setModelSlot("read");
+				reader.setUri(uri);
+
+				// let both workflows use their resource sets at the same time
+				barrier.await(10, TimeUnit.SECONDS);
+				writer.invoke(ctx, new NullProgressMonitor(), issues);
+				reader.invoke(ctx, new NullProgressMonitor(), issues);
+				assertFalse(issues.toString(), issues.hasErrors());
+				// the reader finds the resource the writer has created
+				assertSame(pack, ctx.get("read"));
+			}
+			assertSame(scope.getResourceSet(), SingleGlobalResourceSet.get());
+			return scope.getResourceSet();
+		} finally {
+			scope.close();
+		}
+	}
+
+	private void assertResources(String workflow, ResourceSet resourceSet) {
+		assertEquals(MODELS, resourceSet.getResources().size());
+		for (Resource resource : resourceSet.getResources()) {
+			assertTrue(resource.getURI().toString(), resource.getURI().lastSegment().startsWith(workflow));
+		}
+	}
+}
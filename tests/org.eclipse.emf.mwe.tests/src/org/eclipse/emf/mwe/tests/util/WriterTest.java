@@ -1,13 +1,18 @@
 package org.eclipse.emf.mwe.tests.util;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.mwe.core.WorkflowContext;
 import org.eclipse.emf.mwe.core.WorkflowContextDefaultImpl;
 import org.eclipse.emf.mwe.core.issues.Issues;
@@ -81,4 +86,90 @@ public class WriterTest extends Assert {
 		assertFalse(f.exists());
 	}
 
+	@Test public void testBinaryRoundTrip() throws Exception {
+		assertBinaryRoundTrip(true, "testmodel.ecore");
+		assertBinaryRoundTrip(false, "testmodel.xmib");
+	}
+
+	@Test public void testGlobalRegistryIsNotModified() throws Exception {
+		// the static setup of the component registers the default factory
+		Writer writer = new Writer();
+		Map<String, Object> factories = Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap();
+		Object defaultFactory = factories.remove(Resource.Factory.Registry.DEFAULT_EXTENSION);
+		File file = new File(System.getProperty("java.io.tmpdir"), "testmodel.unregistered");
+		try {
+			writer.setModelSlot("x");
+			writer.setUri(file.toURI().toString());
+			WorkflowContext ctx = new WorkflowContextDefaultImpl();
+			EPackage pack = EcoreFactory.eINSTANCE.createEPackage();
+			pack.setName("test");
+			ctx.set("x", pack);
+			Issues issues = new IssuesImpl();
+			writer.invoke(ctx, new NullProgressMonitor(), issues);
+			assertFalse(issues.toString(), issues.hasErrors());
+			assertFalse(factories.containsKey(Resource.Factory.Registry.DEFAULT_EXTENSION));
+			InputStream in = new FileInputStream(file);
+			try {
+				assertEquals('<', in.read());
+			} finally {
+				in.close();
+			}
+		} finally {
+			if (defaultFactory != null)
+				factories.put(Resource.Factory.Registry.DEFAULT_EXTENSION, defaultFactory);
+			file.delete();
+		}
+	}
+
+	private void assertBinaryRoundTrip(boolean useBinary, String fileName) throws Exception {
+		File file = new File(System.getProperty("java.io.tmpdir"), fileName);
+		try {
+			Writer writer = new Writer();
+			writer.setModelSlot("x");
+			writer.setUri(file.toURI().toString());
+			writer.setResourceSet(new ResourceSetImpl());
+			writer.setUseBinary(useBinary);
+			writer.setBinaryFileExtension("xmib");
+
+			WorkflowContext ctx = new WorkflowContextDefaultImpl();
+			EPackage pack = EcoreFactory.eINSTANCE.createEPackage();
+			pack.setName("test");
+			pack.setNsURI("http://www.eclipse.org/oaw/writer/test");
+			for (int i = 0; i < 10; i++) {
+				EClass clazz = EcoreFactory.eINSTANCE.createEClass();
+				clazz.setName("TEST" + i);
+				if (i > 0) {
+					clazz.getESuperTypes().add((EClass) pack.getEClassifiers().get(i - 1));
+				}
+				pack.getEClassifiers().add(clazz);
+			}
+			ctx.set("x", pack);
+			Issues issues = new IssuesImpl();
+			writer.invoke(ctx, new NullProgressMonitor(), issues);
+			assertFalse(issues.toString(), issues.hasErrors());
+			InputStream in = new FileInputStream(file);
+			try {
+				assertTrue("not binary", in.read() != '<');
+			} finally {
+				in.close();
+			}
+
+			// read in with a fresh resource set
+			Reader r = new Reader();
+			r.setModelSlot("y");
+			r.setUri(file.toURI().toString());
+			r.setResourceSet(new ResourceSetImpl());
+			r.setUseBinary(useBinary);
+			r.setBinaryFileExtension("xmib");
+			r.setMakeEPackagesGlobal(false);
+			r.invoke(ctx, new NullProgressMonitor(), issues);
+			EPackage pack2 = (EPackage) ctx.get("y");
+
+			assertNotSame(pack, pack2);
+			assertTrue(EcoreUtil.equals(pack, pack2));
+		} finally {
+			file.delete();
+		}
+	}
+
 }
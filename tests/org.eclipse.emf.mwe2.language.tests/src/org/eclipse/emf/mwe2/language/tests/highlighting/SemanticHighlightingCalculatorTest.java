@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe2.language.tests.highlighting;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.emf.mwe2.language.mwe2.Module;
+import org.eclipse.emf.mwe2.language.Mwe2InjectorProvider;
+import org.eclipse.emf.mwe2.language.ui.highlighting.SemanticHighlightingCalculator;
+import org.eclipse.xtext.ide.editor.syntaxcoloring.IHighlightedPositionAcceptor;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.testing.InjectWith;
+import org.eclipse.xtext.testing.XtextRunner;
+import org.eclipse.xtext.testing.util.ParseHelper;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.inject.Inject;
+
+@InjectWith(Mwe2InjectorProvider.class)
+@RunWith(XtextRunner.class)
+public class SemanticHighlightingCalculatorTest {
+
+	private static final String[] INSERTIONS = { "a", "x", " ", "\n", "'", "{", "}", "${", "//", "z = 'a' ", "x = {} " };
+
+	@Inject
+	private ParseHelper<Module> parser;
+
+	@Inject
+	private CountingCalculator calculator;
+
+	@Test public void testIncrementalEqualsFullHighlighting() throws Exception {
+		Module module = parser.parse(
+				"module m\n" +
+				"\n" +
+				"import org.eclipse.xtext.xtext.generator.*\n" +
+				"\n" +
+				"var name = 'foo'\n" +
+				"var path = '${name}/src'\n" +
+				"\n" +
+				"Workflow {\n" +
+				"	component = XtextGenerator {\n" +
+				"		language = StandardLanguage : lang {\n" +
+				"			name = '${ /* comment */ name}.MyDsl'\n" +
+				"			newProjectWizardForEclipse = {}\n" +
+				"		}\n" +
+				"		language = lang\n" +
+				"	}\n" +
+				"	component = XtextGenerator {\n" +
+				"		language = StandardLanguage {\n" +
+				"			name = path\n" +
+				"			fileExtensions = '${name}'\n" +
+				"		}\n" +
+				"	}\n" +
+				"}\n");
+		XtextResource resource = (XtextResource) module.eResource();
+		((XtextResourceSet) resource.getResourceSet()).setClasspathURIContext(getClass());
+		List<String> initial = highlight(resource);
+		assertTrue(initial.toString(), initial.toString().contains("deprecated_element"));
+
+		Random random = new Random(4711);
+		for (int i = 0; i < 200; i++) {
+			String text = resource.getParseResult().getRootNode().getText();
+			int offset = random.nextInt(text.length());
+			int length = random.nextBoolean() ? 0 : random.nextInt(Math.min(5, text.length() - offset) + 1);
+			String insertion = random.nextBoolean() ? INSERTIONS[random.nextInt(INSERTIONS.length)] : "";
+			if (length == 0 && insertion.isEmpty())
+				continue;
+			String replaced = text.substring(offset, offset + length);
+			assertSameAsFullHighlighting(resource, offset, length, insertion);
+			// undo the edit, which keeps the model close to a valid one
+			assertSameAsFullHighlighting(resource, offset, insertion.length(), replaced);
+		}
+		assertTrue("incremental " + calculator.incremental, calculator.incremental > 100);
+	}
+
+	private void assertSameAsFullHighlighting(XtextResource resource, int offset, int length, String insertion) {
+		resource.update(offset, length, insertion);
+		List<String> incremental = highlight(resource);
+		// unchanged text is highlighted from scratch
+		List<String> full = highlight(resource);
+		assertEquals(resource.getParseResult().getRootNode().getText(), full, incremental);
+	}
+
+	private List<String> highlight(XtextResource resource) {
+		final List<String> result = new ArrayList<String>();
+		calculator.provideHighlightingFor(resource, new IHighlightedPositionAcceptor() {
+			@Override
+			public void addPosition(int offset, int length, String... id) {
+				result.add(offset + ":" + length + ":" + Arrays.toString(id));
+			}
+		}, CancelIndicator.NullImpl);
+		return result;
+	}
+
+	public static class CountingCalculator extends SemanticHighlightingCalculator {
+
+		private int incremental;
+
+		@Override
+		protected HighlightingState computeIncrementally(ICompositeNode rootNode, String text,
+				HighlightingState previous, CancelIndicator cancelIndicator) {
+			HighlightingState result = super.computeIncrementally(rootNode, text, previous, cancelIndicator);
+			if (result != null) {
+				incremental++;
+			}
+			return result;
+		}
+	}
+}
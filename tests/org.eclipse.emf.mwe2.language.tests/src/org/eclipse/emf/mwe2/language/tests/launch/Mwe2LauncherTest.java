@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe2.language.tests.launch;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.emf.mwe2.launch.runtime.Mwe2Launcher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Injector;
+
+public class Mwe2LauncherTest {
+
+	private File dir;
+
+	private int injectorCount;
+
+	private Mwe2Launcher launcher;
+
+	@Before
+	public void setUp() throws IOException {
+		dir = File.createTempFile("mwe2launcher", "");
+		dir.delete();
+		dir.mkdir();
+		RecordingComponent.invoked.clear();
+		launcher = new Mwe2Launcher() {
+			@Override
+			protected Injector createInjector() {
+				injectorCount++;
+				return super.createInjector();
+			}
+		};
+	}
+
+	@After
+	public void tearDown() {
+		for (File file : dir.listFiles())
+			file.delete();
+		dir.delete();
+	}
+
+	@Test public void testBatchSharesInjector() throws IOException {
+		String first = writeModule("First", "first", false);
+		String failing = writeModule("Failing", "failing", true);
+		String second = writeModule("Second", "second", false);
+		int[] status = launcher.runBatch(Arrays.asList(first, failing, second), Collections.<String, String>emptyMap());
+		assertArrayEquals(new int[] { 0, 1, 0 }, status);
+		assertEquals(Arrays.asList("first", "second"), RecordingComponent.invoked);
+		assertEquals(1, injectorCount);
+	}
+
+	@Test public void testModuleNamesFromFile() throws IOException {
+		File list = new File(dir, "modules.txt");
+		write(list, "# generators\n" + writeModule("First", "first", false) + "\n\n"
+				+ writeModule("Second", "second", false) + "\n");
+		assertEquals(0, launcher.launch(new String[] { "-f", list.getPath() }));
+		assertEquals(Arrays.asList("first", "second"), RecordingComponent.invoked);
+		assertEquals(1, injectorCount);
+	}
+
+	@Test public void testBatchStatus() throws IOException {
+		String failing = writeModule("Failing", "failing", true);
+		String second = writeModule("Second", "second", false);
+		assertEquals(1, launcher.launch(new String[] { "-b", failing, second }));
+		assertEquals(Arrays.asList("second"), RecordingComponent.invoked);
+	}
+
+	@Test public void testOnlyOneModuleWithoutBatch() throws IOException {
+		String first = writeModule("First", "first", false);
+		String second = writeModule("Second", "second", false);
+		assertEquals(1, launcher.launch(new String[] { first, second }));
+		assertTrue(RecordingComponent.invoked.isEmpty());
+		assertEquals(0, injectorCount);
+	}
+
+	private String writeModule(String name, String componentName, boolean fail) throws IOException {
+		File file = new File(dir, name + ".mwe2");
+		write(file, "module " + name + "\n" +
+				"import " + RecordingComponent.class.getName() + "\n" +
+				"org.eclipse.emf.mwe2.runtime.workflow.Workflow {\n" +
+				"  component = RecordingComponent {\n" +
+				"    name = '" + componentName + "'\n" +
+				"    fail = " + fail + "\n" +
+				"  }\n" +
+				"}\n");
+		return file.toURI().toString();
+	}
+
+	private void write(File file, String content) throws IOException {
+		FileWriter writer = new FileWriter(file);
+		try {
+			writer.write(content);
+		} finally {
+			writer.close();
+		}
+	}
+}
@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe2.language.tests.launch;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.mwe2.language.Mwe2StandaloneSetup;
+import org.eclipse.emf.mwe2.launch.runtime.Mwe2RunResult;
+import org.eclipse.emf.mwe2.launch.runtime.Mwe2Runner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+public class Mwe2RunnerTest {
+
+	private static final int SWEEP_SIZE = 100;
+
+	private static final Map<String, String> NO_PARAMS = Collections.<String, String>emptyMap();
+
+	private File dir;
+
+	private CountingRunner runner;
+
+	@Before
+	public void setUp() throws IOException {
+		dir = File.createTempFile("mwe2runner", "");
+		dir.delete();
+		dir.mkdir();
+		RecordingComponent.invoked.clear();
+		runner = new CountingRunner(dir);
+		new Mwe2StandaloneSetup().createInjectorAndDoEMFRegistration().injectMembers(runner);
+		writeCommon("common");
+		writeModule("A", "a");
+		writeModule("B", "b");
+	}
+
+	@After
+	public void tearDown() {
+		for (File file : dir.listFiles())
+			file.delete();
+		dir.delete();
+	}
+
+	@Test public void testCommonModuleParsedOnce() {
+		runner.run(Arrays.asList("A", "B"), NO_PARAMS);
+		runner.run(Arrays.asList("A"), NO_PARAMS);
+		assertEquals(Arrays.asList("common-a", "common-b", "common-a"), RecordingComponent.invoked);
+		assertEquals(1, runner.resourceSets);
+		assertEquals(1, Collections.frequency(runner.loaded, "Common.mwe2"));
+	}
+
+	@Test public void testWithoutSharedResourceSet() {
+		runner.run("A", NO_PARAMS);
+		runner.run("B", NO_PARAMS);
+		assertEquals(Arrays.asList("common-a", "common-b"), RecordingComponent.invoked);
+		assertEquals(2, Collections.frequency(runner.loaded, "Common.mwe2"));
+	}
+
+	@Test public void testChangedModuleIsParsedAgain() throws IOException {
+		runner.run(Arrays.asList("A"), NO_PARAMS);
+		File common = writeCommon("changed");
+		assertTrue(common.setLastModified(common.lastModified() + 2000));
+		runner.run(Arrays.asList("A", "B"), NO_PARAMS);
+		assertEquals(Arrays.asList("common-a", "changed-a", "changed-b"), RecordingComponent.invoked);
+		assertEquals(2, runner.resourceSets);
+		assertEquals(2, Collections.frequency(runner.loaded, "Common.mwe2"));
+	}
+
+	@Test public void testModuleAddedLater() throws IOException {
+		runner.run(Arrays.asList("A"), NO_PARAMS);
+		writeModule("C", "c");
+		runner.run(Arrays.asList("C"), NO_PARAMS);
+		assertEquals(Arrays.asList("common-a", "common-c"), RecordingComponent.invoked);
+	}
+
+	@Test public void testUnknownModuleKeepsSharedResourceSet() {
+		runner.run(Arrays.asList("A"), NO_PARAMS);
+		try {
+			runner.run(Arrays.asList("Typo"), NO_PARAMS);
+			fail();
+		} catch (IllegalStateException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("Typo"));
+		}
+		try {
+			runner.run(Arrays.asList(new File(dir, "Missing.mwe2").toURI().toString()), NO_PARAMS);
+			fail();
+		} catch (RuntimeException e) {
+			// expected
+		}
+		// only the temporary resource set to look for the unknown module has parsed it
+		assertEquals(2, runner.resourceSets);
+		assertEquals(2, Collections.frequency(runner.loaded, "Common.mwe2"));
+		runner.run(Arrays.asList("B", "A"), NO_PARAMS);
+		assertEquals(Arrays.asList("common-a", "common-b", "common-a"), RecordingComponent.invoked);
+		assertEquals(2, runner.resourceSets);
+		assertEquals(2, Collections.frequency(runner.loaded, "Common.mwe2"));
+	}
+
+	@Test public void testModuleURI() {
+		String uri = new File(dir, "A.mwe2").toURI().toString();
+		runner.run(Arrays.asList(uri, "B", uri), NO_PARAMS);
+		assertEquals(Arrays.asList("common-a", "common-b", "common-a"), RecordingComponent.invoked);
+		assertEquals(1, Collections.frequency(runner.loaded, "Common.mwe2"));
+	}
+
+	@Test public void testSweep() throws IOException {
+		writeSweep();
+		List<Mwe2RunResult> results = runner.runSweep("Sweep", sweepParams(), 1);
+		assertSweepResults(results);
+		assertEquals(1, Collections.frequency(runner.loaded, "Sweep.mwe2"));
+	}
+
+	@Test public void testParallelSweep() throws IOException {
+		writeSweep();
+		List<Mwe2RunResult> results = runner.runSweep("Sweep", sweepParams(), 8);
+		assertSweepResults(results);
+		assertEquals(1, Collections.frequency(runner.loaded, "Sweep.mwe2"));
+		// the module stays parsed for the next sweep
+		assertSweepResults(runner.runSweep("Sweep", sweepParams(), 8));
+		assertEquals(1, runner.resourceSets);
+	}
+
+	@Test public void testSweepWithInvalidModule() throws IOException {
+		write("Invalid", "module Invalid\norg.eclipse.emf.mwe2.runtime.workflow.Workflow {\n  component = @Unknown {}\n}\n");
+		try {
+			runner.runSweep("Invalid", sweepParams(), 1);
+			fail();
+		} catch (IllegalStateException e) {
+			assertTrue(RecordingComponent.invoked.isEmpty());
+		}
+	}
+
+	private void writeSweep() throws IOException {
+		write("Sweep", "module Sweep\n" +
+				"import " + RecordingComponent.class.getName() + "\n" +
+				"var name\n" +
+				"var fail = 'false'\n" +
+				"org.eclipse.emf.mwe2.runtime.workflow.Workflow {\n" +
+				"  component = RecordingComponent {\n" +
+				"    name = name\n" +
+				"    failFlag = fail\n" +
+				"  }\n" +
+				"}\n");
+	}
+
+	private List<Map<String, String>> sweepParams() {
+		List<Map<String, String>> result = Lists.newArrayList();
+		for (int i = 0; i < SWEEP_SIZE; i++) {
+			Map<String, String> params = Maps.newHashMap();
+			params.put("name", "variant" + i);
+			params.put("fail", String.valueOf(i % 10 == 9));
+			result.add(params);
+		}
+		return result;
+	}
+
+	private void assertSweepResults(List<Mwe2RunResult> results) {
+		assertEquals(SWEEP_SIZE, results.size());
+		for (int i = 0; i < SWEEP_SIZE; i++) {
+			Mwe2RunResult result = results.get(i);
+			assertEquals("variant" + i, result.getParams().get("name"));
+			if (i % 10 == 9) {
+				assertFalse(result.isSuccessful());
+				assertTrue(result.getException().getMessage(), result.getException().getMessage().contains("variant" + i + " failed"));
+				assertNull(result.getContext().get("name"));
+			} else {
+				assertTrue(result.toString(), result.isSuccessful());
+				assertEquals("variant" + i, result.getContext().get("name"));
+			}
+		}
+	}
+
+	private File writeCommon(String prefix) throws IOException {
+		return write("Common", "module Common\n" +
+				"import " + RecordingComponent.class.getName() + "\n" +
+				"var name\n" +
+				"RecordingComponent {\n" +
+				"  name = \"" + prefix + "-${name}\"\n" +
+				"}\n");
+	}
+
+	private File writeModule(String name, String componentName) throws IOException {
+		return write(name, "module " + name + "\n" +
+				"org.eclipse.emf.mwe2.runtime.workflow.Workflow {\n" +
+				"  component = @Common {\n" +
+				"    name = '" + componentName + "'\n" +
+				"  }\n" +
+				"}\n");
+	}
+
+	private File write(String name, String content) throws IOException {
+		File file = new File(dir, name + ".mwe2");
+		FileWriter writer = new FileWriter(file);
+		try {
+			writer.write(content);
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+
+	private static class CountingRunner extends Mwe2Runner {
+
+		private final File dir;
+
+		int resourceSets;
+
+		final List<String> loaded = Lists.newArrayList();
+
+		private final AdapterImpl loadListener = new AdapterImpl() {
+			@Override
+			public void notifyChanged(Notification msg) {
+				if (msg.getNotifier() instanceof Resource
+						&& msg.getFeatureID(Resource.class) == Resource.RESOURCE__IS_LOADED
+						&& msg.getNewBooleanValue()) {
+					loaded.add(((Resource) msg.getNotifier()).getURI().lastSegment());
+				}
+			}
+		};
+
+		CountingRunner(File dir) {
+			this.dir = dir;
+		}
+
+		@Override
+		protected List<String> getPathes() {
+			List<String> result = Lists.newArrayList(super.getPathes());
+			result.add(dir.getAbsolutePath());
+			return result;
+		}
+
+		@Override
+		protected ResourceSet getConfiguredResourceSet() {
+			resourceSets++;
+			ResourceSet resourceSet = super.getConfiguredResourceSet();
+			for (Resource resource : resourceSet.getResources())
+				resource.eAdapters().add(loadListener);
+			resourceSet.eAdapters().add(new AdapterImpl() {
+				@Override
+				public void notifyChanged(Notification msg) {
+					if (msg.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES
+							&& msg.getEventType() == Notification.ADD) {
+						((Resource) msg.getNewValue()).eAdapters().add(loadListener);
+					}
+				}
+			});
+			return resourceSet;
+		}
+	}
+}
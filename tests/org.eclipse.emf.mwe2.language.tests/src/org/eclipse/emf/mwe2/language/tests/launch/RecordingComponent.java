@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe2.language.tests.launch;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.mwe2.runtime.workflow.IWorkflowComponent;
+import org.eclipse.emf.mwe2.runtime.workflow.IWorkflowContext;
+
+import com.google.common.collect.Lists;
+
+public class RecordingComponent implements IWorkflowComponent {
+	public static final List<String> invoked = Collections.synchronizedList(Lists.<String>newArrayList());
+
+	private String name;
+	private boolean fail;
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public void setFail(boolean fail) {
+		this.fail = fail;
+	}
+
+	/**
+	 * Module parameters are strings.
+	 */
+	public void setFailFlag(String fail) {
+		this.fail = Boolean.parseBoolean(fail);
+	}
+
+	@Override
+	public void preInvoke() {
+	}
+
+	@Override
+	public void invoke(IWorkflowContext ctx) {
+		if (fail)
+			throw new IllegalStateException(name + " failed");
+		invoked.add(name);
+		ctx.put("name", name);
+	}
+
+	@Override
+	public void postInvoke() {
+	}
+}
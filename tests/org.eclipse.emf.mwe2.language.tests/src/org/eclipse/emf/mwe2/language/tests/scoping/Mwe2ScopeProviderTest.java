@@ -11,6 +11,8 @@ package org.eclipse.emf.mwe2.language.tests.scoping;
 
 import static org.junit.Assert.*;
 
+import java.util.Map;
+
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.mwe2.language.Mwe2InjectorProvider;
@@ -20,11 +22,14 @@ import org.eclipse.emf.mwe2.language.mwe2.DeclaredProperty;
 import org.eclipse.emf.mwe2.language.mwe2.Module;
 import org.eclipse.emf.mwe2.language.mwe2.Mwe2Package;
 import org.eclipse.emf.mwe2.language.mwe2.Reference;
+import org.eclipse.emf.mwe2.language.scoping.FactorySupport;
 import org.eclipse.emf.mwe2.language.scoping.Mwe2ScopeProvider;
 import org.eclipse.emf.mwe2.language.tests.factory.ComponentA;
 import org.eclipse.emf.mwe2.language.tests.factory.ComponentAFactory;
 import org.eclipse.emf.mwe2.language.tests.factory.SubTypeOfComponentA;
 import org.eclipse.xtext.common.types.JvmExecutable;
+import org.eclipse.xtext.common.types.JvmFeature;
+import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.scoping.IScope;
@@ -47,6 +52,9 @@ public class Mwe2ScopeProviderTest {
 	@Inject
 	private ParseHelper<Module> parser;
 	
+	@Inject
+	private FactorySupport factorySupport;
+	
 	private Module getModel(String s) throws Exception {
 		Module result = parser.parse(s);
 		XtextResourceSet resourceSet = (XtextResourceSet) result.eResource().getResourceSet();
@@ -114,6 +122,15 @@ public class Mwe2ScopeProviderTest {
 		assertEquals(ComponentA.class.getName(),feature.getDeclaringType().getIdentifier());
 	}
 	
+	@Test public void testInjectableFeaturesAreCached() throws Exception {
+		Module model = getModel("module foo "+ComponentAFactory.class.getName()+"{}");
+		JvmType type = model.getRoot().getActualType();
+		Map<QualifiedName, JvmFeature> features = getScopeProvider().getFeatureLookup().getInjectableFeatures(type);
+		assertSame(features, getScopeProvider().getFeatureLookup().getInjectableFeatures(type));
+		assertEquals(ComponentA.class.getName(), factorySupport.findFactoriesCreationType(type).getIdentifier());
+		assertSame(factorySupport.findFactoriesCreationType(type), factorySupport.findFactoriesCreationType(type));
+	}
+	
 	@Test public void testCreateReferableScope() throws Exception {
 		Module model = getModel("module foo \n"
 				+ "var a = 'foo'\n" 
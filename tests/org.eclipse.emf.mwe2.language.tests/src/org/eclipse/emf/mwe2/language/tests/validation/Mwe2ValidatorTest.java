@@ -172,6 +172,26 @@ public class Mwe2ValidatorTest {
 		validationTestHelper.assertWarning(barModule, DECLARED_PROPERTY, UNUSED_LOCAL, "The var 'foo' is never read locally.");
 	}
 
+	@Test public void testMandatoryProperty_2() throws Exception {
+		String barText = "module bar var a " + ComponentA.class.getName() + " { y = a }";
+		String fooText = "module foo " + ComponentA.class.getName() + " { x = " + ComponentA.class.getName() + " : a {} x = @bar auto-inject {} }";
+		
+		Module barModule = parser.parse(barText);
+		Module fooModule = parser.parse(fooText, barModule.eResource().getResourceSet());
+		
+		validationTestHelper.assertNoIssues(fooModule);
+	}
+
+	@Test public void testMandatoryProperty_3() throws Exception {
+		String barText = "module bar var a " + ComponentA.class.getName() + " { y = a }";
+		String fooText = "module foo " + ComponentA.class.getName() + " { x = @bar auto-inject {} x = " + ComponentA.class.getName() + " : a {} }";
+		
+		Module barModule = parser.parse(barText);
+		Module fooModule = parser.parse(fooText, barModule.eResource().getResourceSet());
+		
+		validationTestHelper.assertError(fooModule, COMPONENT, MISSING_MANDATORY_FEATURE, "Mandatory feature was not assigned: 'a'.");
+	}
+
 	@Test public void testDeprecatedElement() throws Exception {
 		assertWarning(
 				"module m\r\n" + 
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe2.language.tests.workflow;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.eclipse.emf.mwe2.runtime.workflow.ConditionalWorkflowComponent;
+import org.eclipse.emf.mwe2.runtime.workflow.IWorkflowComponent;
+import org.eclipse.emf.mwe2.runtime.workflow.IWorkflowContext;
+import org.eclipse.emf.mwe2.runtime.workflow.Workflow;
+import org.eclipse.emf.mwe2.runtime.workflow.WorkflowContextImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class ConditionalWorkflowComponentTest {
+
+	private List<String> events;
+
+	@Before
+	public void setUp() {
+		events = Lists.newArrayList();
+	}
+
+	@Test public void testConditionProperty() {
+		ConditionalWorkflowComponent conditional = conditional(new Step("a"), new Step("b"));
+		run(conditional, new WorkflowContextImpl());
+		assertEquals("[pre a, pre b, post a, post b]", events.toString());
+
+		events.clear();
+		conditional.setCondition(true);
+		run(conditional, new WorkflowContextImpl());
+		assertEquals("[pre a, pre b, invoke a, invoke b, post a, post b]", events.toString());
+	}
+
+	@Test public void testConditionSlot() {
+		ConditionalWorkflowComponent conditional = conditional(new Step("a"));
+		conditional.setCondition(true);
+		conditional.setConditionSlot("cond");
+		assertEquals("[]", invocations(conditional, null));
+		assertEquals("[]", invocations(conditional, Boolean.FALSE));
+		assertEquals("[]", invocations(conditional, "no"));
+		assertEquals("[invoke a]", invocations(conditional, Boolean.TRUE));
+		assertEquals("[invoke a]", invocations(conditional, "true"));
+	}
+
+	@Test public void testSlotSetByEarlierComponent() {
+		ConditionalWorkflowComponent conditional = conditional(new Step("b"));
+		conditional.setConditionSlot("cond");
+		Workflow workflow = new Workflow();
+		workflow.addComponent(new Step("a") {
+			@Override
+			public void invoke(IWorkflowContext ctx) {
+				super.invoke(ctx);
+				ctx.put("cond", true);
+			}
+		});
+		workflow.addComponent(conditional);
+		workflow.run(new WorkflowContextImpl());
+		assertEquals("[pre a, pre b, invoke a, invoke b, post a, post b]", events.toString());
+	}
+
+	@Test public void testInvalidSlotContent() {
+		ConditionalWorkflowComponent conditional = conditional(new Step("a"));
+		conditional.setConditionSlot("cond");
+		IWorkflowContext ctx = new WorkflowContextImpl();
+		ctx.put("cond", 42);
+		try {
+			run(conditional, ctx);
+			fail();
+		} catch (IllegalStateException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("'cond'"));
+		}
+		// the children are cleaned up nevertheless
+		assertEquals("[pre a, post a]", events.toString());
+	}
+
+	private String invocations(ConditionalWorkflowComponent conditional, Object value) {
+		events.clear();
+		IWorkflowContext ctx = new WorkflowContextImpl();
+		ctx.put("cond", value);
+		run(conditional, ctx);
+		List<String> result = Lists.newArrayList();
+		for (String event : events) {
+			if (event.startsWith("invoke"))
+				result.add(event);
+		}
+		return result.toString();
+	}
+
+	private void run(IWorkflowComponent component, IWorkflowContext ctx) {
+		Workflow workflow = new Workflow();
+		workflow.addComponent(component);
+		workflow.run(ctx);
+	}
+
+	private ConditionalWorkflowComponent conditional(IWorkflowComponent... components) {
+		ConditionalWorkflowComponent result = new ConditionalWorkflowComponent();
+		for (IWorkflowComponent component : components)
+			result.addComponent(component);
+		return result;
+	}
+
+	private class Step implements IWorkflowComponent {
+		private final String name;
+
+		Step(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public void preInvoke() {
+			events.add("pre " + name);
+		}
+
+		@Override
+		public void invoke(IWorkflowContext ctx) {
+			events.add("invoke " + name);
+		}
+
+		@Override
+		public void postInvoke() {
+			events.add("post " + name);
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe2.language.tests.workflow;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.emf.mwe2.runtime.workflow.CancelableWorkflowContextImpl;
+import org.eclipse.emf.mwe2.runtime.workflow.ForEachWorkflowComponent;
+import org.eclipse.emf.mwe2.runtime.workflow.IWorkflowComponent;
+import org.eclipse.emf.mwe2.runtime.workflow.IWorkflowContext;
+import org.eclipse.emf.mwe2.runtime.workflow.Workflow;
+import org.eclipse.emf.mwe2.runtime.workflow.WorkflowContextImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class ForEachWorkflowComponentTest {
+
+	private List<String> events;
+
+	@Before
+	public void setUp() {
+		events = Lists.newArrayList();
+	}
+
+	@Test public void testIterable() {
+		IWorkflowContext ctx = new WorkflowContextImpl();
+		ctx.put("models", Arrays.asList("x", "y", "z"));
+		ctx.put("model", "outer");
+		run(forEach(new Step("a"), new Step("b")), ctx);
+		assertEquals("[pre a, pre b, a(x), b(x), a(y), b(y), a(z), b(z), post a, post b]", events.toString());
+		// the element slot is restored
+		assertEquals("outer", ctx.get("model"));
+	}
+
+	@Test public void testArray() {
+		IWorkflowContext ctx = new WorkflowContextImpl();
+		ctx.put("models", new String[] { "x", "y" });
+		run(forEach(new Step("a")), ctx);
+		assertEquals("[pre a, a(x), a(y), post a]", events.toString());
+		assertNull(ctx.get("model"));
+	}
+
+	@Test public void testEmptySlot() {
+		run(forEach(new Step("a")), new WorkflowContextImpl());
+		assertEquals("[pre a, post a]", events.toString());
+	}
+
+	@Test public void testChildChangesCollection() {
+		final List<String> models = Lists.newArrayList("x", "y");
+		IWorkflowContext ctx = new WorkflowContextImpl();
+		ctx.put("models", models);
+		run(forEach(new Step("a") {
+			@Override
+			public void invoke(IWorkflowContext ctx) {
+				super.invoke(ctx);
+				models.add("more");
+			}
+		}), ctx);
+		assertEquals("[pre a, a(x), a(y), post a]", events.toString());
+	}
+
+	@Test public void testFailingElement() {
+		IWorkflowContext ctx = new WorkflowContextImpl();
+		ctx.put("models", Arrays.asList("x", "fail", "z"));
+		try {
+			run(forEach(new Step("a")), ctx);
+			fail();
+		} catch (IllegalStateException e) {
+			assertEquals("a failed", e.getMessage());
+		}
+		assertEquals("[pre a, a(x), post a]", events.toString());
+		assertNull(ctx.get("model"));
+	}
+
+	@Test public void testCanceled() {
+		final CancelableWorkflowContextImpl ctx = new CancelableWorkflowContextImpl();
+		ctx.put("models", Arrays.asList("x", "y", "z"));
+		run(forEach(new Step("a") {
+			@Override
+			public void invoke(IWorkflowContext context) {
+				super.invoke(context);
+				if ("y".equals(context.get("model")))
+					ctx.cancel();
+			}
+		}, new Step("b")), ctx);
+		assertEquals("[pre a, pre b, a(x), b(x), a(y), post a, post b]", events.toString());
+	}
+
+	@Test public void testNotConfigured() {
+		ForEachWorkflowComponent forEach = new ForEachWorkflowComponent();
+		forEach.setCollectionSlot("models");
+		try {
+			forEach.invoke(new WorkflowContextImpl());
+			fail();
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	private void run(IWorkflowComponent component, IWorkflowContext ctx) {
+		Workflow workflow = new Workflow();
+		workflow.addComponent(component);
+		workflow.run(ctx);
+	}
+
+	private ForEachWorkflowComponent forEach(IWorkflowComponent... components) {
+		ForEachWorkflowComponent result = new ForEachWorkflowComponent();
+		result.setCollectionSlot("models");
+		result.setElementSlot("model");
+		for (IWorkflowComponent component : components)
+			result.addComponent(component);
+		return result;
+	}
+
+	private class Step implements IWorkflowComponent {
+		private final String name;
+
+		Step(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public void preInvoke() {
+			events.add("pre " + name);
+		}
+
+		@Override
+		public void invoke(IWorkflowContext ctx) {
+			if ("fail".equals(ctx.get("model")))
+				throw new IllegalStateException(name + " failed");
+			events.add(name + "(" + ctx.get("model") + ")");
+		}
+
+		@Override
+		public void postInvoke() {
+			events.add("post " + name);
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *******************************************************************************/
+package org.eclipse.emf.mwe2.language.tests.workflow;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.eclipse.emf.mwe2.runtime.workflow.CancelableWorkflowContextImpl;
+import org.eclipse.emf.mwe2.runtime.workflow.IWorkflowComponent;
+import org.eclipse.emf.mwe2.runtime.workflow.IWorkflowContext;
+import org.eclipse.emf.mwe2.runtime.workflow.Workflow;
+import org.eclipse.emf.mwe2.runtime.workflow.WorkflowContextImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class WorkflowTest {
+
+	private List<String> events;
+
+	@Before
+	public void setUp() {
+		events = Lists.newArrayList();
+	}
+
+	@Test public void testSuccessfulRun() {
+		Workflow workflow = workflow(new Step("a"), nested(new Step("b"), new Step("c")));
+		workflow.run(new WorkflowContextImpl());
+		assertEquals("[pre a, pre b, pre c, invoke a, invoke b, invoke c, post a, post b, post c]",
+				events.toString());
+	}
+
+	@Test public void testFailingInvoke() {
+		Step failing = new Step("c");
+		failing.failOn = "invoke";
+		Workflow workflow = workflow(new Step("a"), nested(new Step("b"), failing), new Step("d"));
+		try {
+			workflow.run(new WorkflowContextImpl());
+			fail();
+		} catch (IllegalStateException e) {
+			assertEquals("invoke c", e.getMessage());
+			assertEquals(0, e.getSuppressed().length);
+		}
+		assertEquals("[pre a, pre b, pre c, pre d, invoke a, invoke b, post a, post b, post c, post d]",
+				events.toString());
+	}
+
+	@Test public void testFailingPreInvoke() {
+		Step failing = new Step("c");
+		failing.failOn = "pre";
+		Workflow workflow = workflow(new Step("a"), nested(new Step("b"), failing, new Step("x")), new Step("d"));
+		try {
+			workflow.run(new WorkflowContextImpl());
+			fail();
+		} catch (IllegalStateException e) {
+			assertEquals("pre c", e.getMessage());
+		}
+		// only components whose preInvoke succeeded are cleaned up, each of them once
+		assertEquals("[pre a, pre b, post b, post a]", events.toString());
+	}
+
+	@Test public void testFailingPostInvokesAreSuppressed() {
+		Step failingInvoke = new Step("b");
+		failingInvoke.failOn = "invoke";
+		Step failingPost1 = new Step("a");
+		failingPost1.failOn = "post";
+		Step failingPost2 = new Step("c");
+		failingPost2.failOn = "post";
+		Workflow workflow = workflow(failingPost1, failingInvoke, nested(failingPost2, new Step("d")));
+		try {
+			workflow.run(new WorkflowContextImpl());
+			fail();
+		} catch (IllegalStateException e) {
+			assertEquals("invoke b", e.getMessage());
+			assertEquals(1, e.getSuppressed().length);
+			Throwable post = e.getSuppressed()[0];
+			assertEquals("post a", post.getMessage());
+			assertEquals(1, post.getSuppressed().length);
+			assertEquals("post c", post.getSuppressed()[0].getMessage());
+		}
+		// failing steps don't record their event
+		assertEquals("[pre a, pre b, pre c, pre d, invoke a, post b, post d]", events.toString());
+	}
+
+	@Test public void testFailingPostInvoke() {
+		Step failing = new Step("a");
+		failing.failOn = "post";
+		Workflow workflow = workflow(failing, new Step("b"));
+		try {
+			workflow.run(new WorkflowContextImpl());
+			fail();
+		} catch (IllegalStateException e) {
+			assertEquals("post a", e.getMessage());
+		}
+		assertEquals("[pre a, pre b, invoke a, invoke b, post b]", events.toString());
+	}
+
+	@Test public void testCanceled() {
+		final CancelableWorkflowContextImpl ctx = new CancelableWorkflowContextImpl();
+		Step canceling = new Step("b") {
+			@Override
+			public void invoke(IWorkflowContext context) {
+				super.invoke(context);
+				ctx.cancel();
+			}
+		};
+		Workflow workflow = workflow(new Step("a"), nested(canceling, new Step("c")), new Step("d"));
+		workflow.run(ctx);
+		assertTrue(ctx.isCanceled());
+		assertEquals("[pre a, pre b, pre c, pre d, invoke a, invoke b, post a, post b, post c, post d]",
+				events.toString());
+	}
+
+	@Test public void testCanceledBeforeRun() {
+		CancelableWorkflowContextImpl ctx = new CancelableWorkflowContextImpl();
+		ctx.cancel();
+		workflow(new Step("a")).run(ctx);
+		assertEquals("[pre a, post a]", events.toString());
+	}
+
+	private Workflow workflow(IWorkflowComponent... components) {
+		Workflow workflow = new Workflow();
+		for (IWorkflowComponent component : components)
+			workflow.addComponent(component);
+		return workflow;
+	}
+
+	private IWorkflowComponent nested(IWorkflowComponent... components) {
+		return workflow(components);
+	}
+
+	private class Step implements IWorkflowComponent {
+		private final String name;
+		String failOn;
+
+		Step(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public void preInvoke() {
+			record("pre");
+		}
+
+		@Override
+		public void invoke(IWorkflowContext ctx) {
+			record("invoke");
+		}
+
+		@Override
+		public void postInvoke() {
+			record("post");
+		}
+
+		private void record(String phase) {
+			if (phase.equals(failOn))
+				throw new IllegalStateException(phase + " " + name);
+			events.add(phase + " " + name);
+		}
+	}
+}